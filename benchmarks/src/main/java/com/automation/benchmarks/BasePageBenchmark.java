@@ -0,0 +1,93 @@
+package com.automation.benchmarks;
+
+import com.automation.utils.ExtentManager;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BasePage click/sendKeys/getText against the raw WebDriver calls they wrap (same explicit wait included),
+ * so the difference is the framework's logging and error handling overhead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BasePageBenchmark {
+
+    private static final By LOCATOR = By.id("twotabsearchtextbox");
+
+    private WebDriver driver;
+    private WebDriverWait wait;
+    private BenchmarkPage page;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ExtentManager.createTest("BasePageBenchmark");
+        driver = new StubWebDriver();
+        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        page = new BenchmarkPage(driver);
+    }
+
+    // Extent keeps every log entry in memory; drop the iteration's test so the heap stays flat
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        ExtentManager.getInstance().removeTest(ExtentManager.getTest());
+        ExtentManager.removeTest();
+    }
+
+    @Benchmark
+    public void rawClick() {
+        wait.until(ExpectedConditions.elementToBeClickable(LOCATOR)).click();
+    }
+
+    @Benchmark
+    public void basePageClick() {
+        page.clickElement(LOCATOR);
+    }
+
+    @Benchmark
+    public void rawSendKeys() {
+        WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(LOCATOR));
+        element.clear();
+        element.sendKeys("iPhone");
+    }
+
+    @Benchmark
+    public void basePageSendKeys() {
+        page.typeInto(LOCATOR, "iPhone");
+    }
+
+    @Benchmark
+    public String rawGetText() {
+        return wait.until(ExpectedConditions.visibilityOfElementLocated(LOCATOR)).getText();
+    }
+
+    @Benchmark
+    public String basePageGetText() {
+        return page.textOf(LOCATOR);
+    }
+
+    @Benchmark
+    public boolean rawIsDisplayed() {
+        return driver.findElement(LOCATOR).isDisplayed();
+    }
+
+    @Benchmark
+    public boolean basePageIsDisplayed() {
+        return page.displayed(LOCATOR);
+    }
+}
@@ -0,0 +1,29 @@
+package com.automation.benchmarks;
+
+import com.automation.base.BasePage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+// Exposes the protected BasePage helpers so benchmarks can call them directly
+public class BenchmarkPage extends BasePage {
+
+    public BenchmarkPage(WebDriver driver) {
+        super(driver);
+    }
+
+    public void clickElement(By locator) {
+        click(locator);
+    }
+
+    public void typeInto(By locator, String text) {
+        sendKeys(locator, text);
+    }
+
+    public String textOf(By locator) {
+        return getText(locator);
+    }
+
+    public boolean displayed(By locator) {
+        return isDisplayed(locator);
+    }
+}
@@ -0,0 +1,69 @@
+package com.automation.benchmarks;
+
+import com.automation.metrics.CommandInstrumentation;
+import com.automation.utils.TestContext;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost the command decorator adds to every driver call: a lookup plus an element command through the decorated
+ * driver against the same calls on the raw stub, and through Selenium's EventFiringDecorator with an empty
+ * listener for reference. Real commands take milliseconds over the wire, so this is the number behind leaving
+ * metrics.commands on by default.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandInstrumentationBenchmark {
+
+    private static final By LOCATOR = By.id("twotabsearchtextbox");
+
+    private WebDriver raw;
+    private WebDriver decorated;
+    private WebDriver eventFiring;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        TestContext.setTestName("CommandInstrumentationBenchmark.findAndGetText");
+        TestContext.setPageObject("BenchmarkPage");
+        raw = new StubWebDriver();
+        decorated = CommandInstrumentation.decorate(new StubWebDriver());
+        eventFiring = new EventFiringDecorator<WebDriver>(new WebDriverListener() {
+        }).decorate(new StubWebDriver());
+    }
+
+    @Benchmark
+    public String rawFindAndGetText() {
+        return raw.findElement(LOCATOR).getText();
+    }
+
+    @Benchmark
+    public String decoratedFindAndGetText() {
+        return decorated.findElement(LOCATOR).getText();
+    }
+
+    @Benchmark
+    public String eventFiringFindAndGetText() {
+        return eventFiring.findElement(LOCATOR).getText();
+    }
+
+    // Four threads on one session exercise the shared histograms
+    @Benchmark
+    @Threads(4)
+    public String decoratedFindAndGetTextContended() {
+        return decorated.findElement(LOCATOR).getText();
+    }
+}
@@ -0,0 +1,53 @@
+package com.automation.benchmarks;
+
+import com.automation.pages.AmazonPage;
+import com.automation.pages.GooglePage;
+import com.automation.utils.ExtentManager;
+import org.openqa.selenium.WebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of constructing page objects (locators, WebDriverWait, initialisation logging)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageObjectBenchmark {
+
+    private WebDriver driver;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ExtentManager.createTest("PageObjectBenchmark");
+        driver = new StubWebDriver();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        ExtentManager.getInstance().removeTest(ExtentManager.getTest());
+        ExtentManager.removeTest();
+    }
+
+    @Benchmark
+    public AmazonPage constructAmazonPage() {
+        return new AmazonPage(driver);
+    }
+
+    @Benchmark
+    public GooglePage constructGooglePage() {
+        return new GooglePage(driver);
+    }
+
+    @Benchmark
+    public String amazonSearchResultsUrl() {
+        return new AmazonPage(driver).buildSearchResultsUrl("iPhone 15", "Price: Low to High", "Electronics");
+    }
+}
@@ -0,0 +1,97 @@
+package com.automation.benchmarks;
+
+import com.automation.listeners.TestListener;
+import com.automation.utils.ExtentManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.testng.IClass;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of report events: ExtentManager log calls (report node plus SLF4J line) and the
+ * TestListener callbacks TestNG fires around every test method.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReportingBenchmark {
+
+    private final TestListener listener = new TestListener();
+    private ITestResult result;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ExtentManager.createTest("ReportingBenchmark");
+        result = stubResult("com.automation.tests.amazon.AmazonOrderTest", "testProductSearchAndCart");
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        ExtentManager.getInstance().removeTest(ExtentManager.getTest());
+        ExtentManager.removeTest();
+    }
+
+    @Benchmark
+    public void logInfo() {
+        ExtentManager.logInfo("Step 3: Search for product: iPhone");
+    }
+
+    @Benchmark
+    public void logPass() {
+        ExtentManager.logPass("Search results displayed successfully");
+    }
+
+    // Four threads logging at once exercise the createTest/flush lock and per-test synchronisation
+    @Benchmark
+    @Threads(4)
+    public void logInfoContended() {
+        ExtentManager.logInfo("Step 3: Search for product: iPhone");
+    }
+
+    @Benchmark
+    public void listenerStartAndSuccess() {
+        listener.onTestStart(result);
+        listener.onTestSuccess(result);
+    }
+
+    // TestNG results are only needed for their names here, so dynamic proxies stand in for them
+    private static ITestResult stubResult(String className, String methodName) {
+        IClass testClass = stub(IClass.class, Map.of("getName", className));
+        ITestNGMethod testMethod = stub(ITestNGMethod.class, Map.of("getMethodName", methodName));
+        return stub(ITestResult.class, Map.of(
+                "getTestClass", testClass,
+                "getMethod", testMethod,
+                "getName", methodName,
+                "getStatus", ITestResult.SUCCESS));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Object> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (answers.containsKey(method.getName())) {
+                return answers.get(method.getName());
+            }
+            Class<?> returnType = method.getReturnType();
+            if (returnType == boolean.class) {
+                return false;
+            }
+            if (returnType.isPrimitive() && returnType != void.class) {
+                return returnType == long.class ? 0L : returnType == double.class ? 0.0 : returnType == float.class ? 0f : 0;
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package com.automation.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-process WebDriver that answers every command immediately, so benchmarks measure only
+ * the framework code wrapped around the driver.
+ */
+public class StubWebDriver implements WebDriver, JavascriptExecutor, TakesScreenshot {
+
+    private static final String SCREENSHOT_BASE64 = "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==";
+
+    private final StubWebElement element = new StubWebElement("Stub product title", this);
+    private final List<WebElement> elements = List.of(
+            new StubWebElement("First product", this),
+            new StubWebElement("Second product", this),
+            new StubWebElement("Third product", this));
+    private String currentUrl = "about:blank";
+
+    @Override
+    public void get(String url) {
+        currentUrl = url;
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return currentUrl;
+    }
+
+    @Override
+    public String getTitle() {
+        return "Stub Page - Amazon Google";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return elements;
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return element;
+    }
+
+    @Override
+    public String getPageSource() {
+        return "<html><body></body></html>";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void quit() {
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Set.of("stub-window");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "stub-window";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("switchTo is not stubbed");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException("navigate is not stubbed");
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException("manage is not stubbed");
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        return "complete";
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return null;
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        return target.convertFromBase64Png(SCREENSHOT_BASE64);
+    }
+}
@@ -0,0 +1,111 @@
+package com.automation.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.List;
+
+// Always present, visible and enabled element used by StubWebDriver; knows its driver like a remote element
+public class StubWebElement implements WebElement, WrapsDriver {
+
+    private final String text;
+    private final WebDriver driver;
+
+    public StubWebElement(String text, WebDriver driver) {
+        this.text = text;
+        this.driver = driver;
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+        return driver;
+    }
+
+    @Override
+    public void click() {
+    }
+
+    @Override
+    public void submit() {
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    @Override
+    public String getTagName() {
+        return "div";
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return name;
+    }
+
+    @Override
+    public boolean isSelected() {
+        return false;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return List.of(this);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return this;
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return true;
+    }
+
+    @Override
+    public Point getLocation() {
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return new Dimension(100, 20);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return new Rectangle(getLocation(), getSize());
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return "";
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        throw new UnsupportedOperationException("Element screenshots are not stubbed");
+    }
+}
@@ -0,0 +1,137 @@
+package com.automation.base;
+
+import com.automation.deadline.Deadline;
+import com.automation.utils.ExtentManager;
+import com.automation.utils.TestContext;
+import com.automation.watchdog.Watchdog;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Runs a session's page commands off the calling thread. Reads start once every action issued before them has
+ * finished and may overlap each other; an action waits for everything issued before it, so the browser still sees
+ * clicks, typing and navigation in program order. Synchronous page helpers wait for every outstanding command
+ * before they read, wait or act. At most page.async.parallelism (default 4) commands of one
+ * session are in flight at a time. Commands run with the caller's test, report node and deadline, and count as
+ * the test's activity for the watchdog.
+ */
+final class AsyncSession {
+
+    private static final int PARALLELISM = Integer.parseInt(System.getProperty("page.async.parallelism", "4"));
+    private static final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("page-command-", 0).factory());
+    // Keyed by the undecorated driver, whose equals and hashCode are identity and never reach the browser
+    private static final Map<WebDriver, AsyncSession> sessions = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final ThreadLocal<Boolean> onCommandThread = new ThreadLocal<>();
+
+    private final Semaphore inFlight = new Semaphore(Math.max(1, PARALLELISM));
+    private CompletableFuture<?> lastAction = CompletableFuture.completedFuture(null);
+    private final List<CompletableFuture<?>> readsSinceLastAction = new ArrayList<>();
+
+    private AsyncSession() {
+    }
+
+    static AsyncSession of(WebDriver driver) {
+        return sessions.computeIfAbsent(unwrap(driver), d -> new AsyncSession());
+    }
+
+    // Lets synchronous helpers finish the session's outstanding async commands before they read, wait or act;
+    // failures stay with the futures that reported them. Async commands reuse the synchronous helpers, so command
+    // threads never wait. Interruptible so the watchdog can end a test stuck behind a hung command.
+    static void drain(WebDriver driver) {
+        if (Boolean.TRUE.equals(onCommandThread.get())) {
+            return;
+        }
+        AsyncSession session = sessions.get(unwrap(driver));
+        if (session == null) {
+            return;
+        }
+        try {
+            session.pending().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for outstanding page commands", e);
+        } catch (ExecutionException e) {
+            // pending() swallows every failure, so this cannot happen
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Forgets the session's command history, e.g. before the driver serves another test from the pool or a retry
+    static void close(WebDriver driver) {
+        sessions.remove(unwrap(driver));
+    }
+
+    synchronized <T> CompletableFuture<T> read(Supplier<T> command) {
+        Supplier<T> bound = bind(command);
+        forgetReportedFailure();
+        CompletableFuture<T> future = lastAction.thenApplyAsync(ignored -> run(bound), executor);
+        readsSinceLastAction.removeIf(CompletableFuture::isDone);
+        readsSinceLastAction.add(future);
+        return future;
+    }
+
+    // A failed action fails every command issued while it was outstanding, as it would have stopped synchronous
+    // code; commands issued after its future has failed run normally
+    synchronized <T> CompletableFuture<T> act(Supplier<T> command) {
+        Supplier<T> bound = bind(command);
+        forgetReportedFailure();
+        List<CompletableFuture<?>> before = new ArrayList<>();
+        before.add(lastAction);
+        readsSinceLastAction.forEach(read -> before.add(read.handle((result, failure) -> null)));
+        CompletableFuture<T> future = CompletableFuture.allOf(before.toArray(new CompletableFuture<?>[0]))
+                .thenApplyAsync(ignored -> run(bound), executor);
+        lastAction = future;
+        readsSinceLastAction.clear();
+        return future;
+    }
+
+    // The failure stays with the future returned for the action, where the caller sees it
+    private void forgetReportedFailure() {
+        if (lastAction.isCompletedExceptionally()) {
+            lastAction = CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private synchronized CompletableFuture<Void> pending() {
+        List<CompletableFuture<?>> outstanding = new ArrayList<>();
+        outstanding.add(lastAction.handle((result, failure) -> null));
+        readsSinceLastAction.forEach(read -> outstanding.add(read.handle((result, failure) -> null)));
+        return CompletableFuture.allOf(outstanding.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private <T> T run(Supplier<T> command) {
+        inFlight.acquireUninterruptibly();
+        onCommandThread.set(true);
+        try {
+            return command.get();
+        } finally {
+            onCommandThread.remove();
+            inFlight.release();
+        }
+    }
+
+    private static <T> Supplier<T> bind(Supplier<T> command) {
+        return ExtentManager.bind(TestContext.bind(Deadline.bind(Watchdog.bind(command))));
+    }
+
+    private static WebDriver unwrap(WebDriver driver) {
+        WebDriver original = driver;
+        while (original instanceof WrapsDriver wrapper) {
+            original = wrapper.getWrappedDriver();
+        }
+        return original;
+    }
+}
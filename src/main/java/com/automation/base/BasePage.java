@@ -1,7 +1,17 @@
 package com.automation.base;
 
+import com.automation.deadline.Deadline;
+import com.automation.jfr.WaitEvent;
+import com.automation.metrics.TimeLedger;
+import com.automation.network.NetworkBlocker;
+import com.automation.network.NetworkProfile;
+import com.automation.performance.PagePerformance;
+import com.automation.performance.PerformanceBudget;
+import com.automation.profile.ProfileTemplate;
 import com.automation.utils.ExtentManager;
+import com.automation.utils.TestContext;
 import org.openqa.selenium.*;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -10,6 +20,10 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 
 public abstract class BasePage {
     
@@ -17,6 +31,7 @@ public abstract class BasePage {
     protected WebDriverWait wait;
     private static final Logger logger = LoggerFactory.getLogger(BasePage.class);
     private static final int DEFAULT_TIMEOUT = 10;
+    private static final int NAVIGATION_TIMEOUT = Integer.parseInt(System.getProperty("page.load.timeout", "30"));
     
     public BasePage(WebDriver driver) {
         if (driver == null) {
@@ -24,6 +39,7 @@ public abstract class BasePage {
         }
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
+        TestContext.setPageObject(this.getClass().getSimpleName());
         logger.info("Initialized page object: {} on thread: {}", this.getClass().getSimpleName(), Thread.currentThread().getName());
         logInfo("Initialized page object: " + this.getClass().getSimpleName());
     }
@@ -55,6 +71,7 @@ public abstract class BasePage {
     // =======================================================
     // Helper methods to find elements
     protected WebElement findElement(By locator) {
+        AsyncSession.drain(driver);
         try {
             return driver.findElement(locator);
         } catch (Exception e) {
@@ -65,6 +82,7 @@ public abstract class BasePage {
     }
     
     protected List<WebElement> findElements(By locator) {
+        AsyncSession.drain(driver);
         try {
             return driver.findElements(locator);
         } catch (Exception e) {
@@ -75,6 +93,7 @@ public abstract class BasePage {
     }
     
     protected void click(By locator) {
+        beforeAction();
         try {
             WebElement element = waitForElementToBeClickable(locator);
             element.click();
@@ -88,6 +107,7 @@ public abstract class BasePage {
     }
     
     protected void sendKeys(By locator, String text) {
+        beforeAction();
         try {
             WebElement element = waitForElementToBeVisible(locator);
             element.clear();
@@ -154,6 +174,7 @@ public abstract class BasePage {
     }
     
     protected void selectByVisibleText(By locator, String text) {
+        beforeAction();
         try {
             WebElement dropdown = findElement(locator);
             Select select = new Select(dropdown);
@@ -168,6 +189,7 @@ public abstract class BasePage {
     }
     
     protected void selectByValue(By locator, String value) {
+        beforeAction();
         try {
             WebElement dropdown = findElement(locator);
             Select select = new Select(dropdown);
@@ -183,7 +205,7 @@ public abstract class BasePage {
     
     protected WebElement waitForElementToBeVisible(By locator) {
         try {
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            return waitUntil(ExpectedConditions.visibilityOfElementLocated(locator));
         } catch (TimeoutException e) {
             logger.error("Element {} not visible within timeout", locator);
             logFail("Element " + locator + " not visible within timeout");
@@ -193,7 +215,7 @@ public abstract class BasePage {
     
     protected WebElement waitForElementToBeClickable(By locator) {
         try {
-            return wait.until(ExpectedConditions.elementToBeClickable(locator));
+            return waitUntil(ExpectedConditions.elementToBeClickable(locator));
         } catch (TimeoutException e) {
             logger.error("Element {} not clickable within timeout", locator);
             logFail("Element " + locator + " not clickable within timeout");
@@ -203,7 +225,7 @@ public abstract class BasePage {
     
     protected List<WebElement> waitForElementsToBeVisible(By locator) {
         try {
-            return wait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
+            return waitUntil(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
         } catch (TimeoutException e) {
             logger.error("Elements {} not visible within timeout", locator);
             logFail("Elements " + locator + " not visible within timeout");
@@ -213,7 +235,7 @@ public abstract class BasePage {
     
     protected void waitForPageTitle(String title) {
         try {
-            wait.until(ExpectedConditions.titleContains(title));
+            waitUntil(ExpectedConditions.titleContains(title));
             logger.info("Page title contains: {}", title);
             logInfo("Page title contains: " + title);
         } catch (TimeoutException e) {
@@ -224,6 +246,7 @@ public abstract class BasePage {
     }
     
     protected void scrollToElement(By locator) {
+        beforeAction();
         try {
             WebElement element = findElement(locator);
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
@@ -237,6 +260,7 @@ public abstract class BasePage {
     }
     
     protected Object executeJavaScript(String script, Object... args) {
+        beforeAction();
         try {
             JavascriptExecutor js = (JavascriptExecutor) driver;
             Object result = js.executeScript(script, args);
@@ -250,22 +274,309 @@ public abstract class BasePage {
         }
     }
     
+    // =======================================================
+    // Snapshot reads: the page source is fetched once and locators are evaluated in the JVM until the next
+    // action or navigation. For reads of text, attributes and counts only; visibility needs the browser.
+    
+    protected DomSnapshot snapshot() {
+        Deadline.check("reading a DOM snapshot");
+        AsyncSession.drain(driver);
+        TimeLedger.begin(TimeLedger.Category.BROWSER);
+        try {
+            return DomSnapshot.of(driver);
+        } catch (Exception e) {
+            logger.error("Failed to capture DOM snapshot: {}", e.getMessage());
+            logFail("Failed to capture DOM snapshot: " + e.getMessage());
+            throw new RuntimeException("Failed to capture DOM snapshot", e);
+        } finally {
+            TimeLedger.end();
+        }
+    }
+    
+    protected void invalidateSnapshot() {
+        DomSnapshot.invalidate(driver);
+    }
+    
+    // Outstanding async commands go first, and whatever the action changes makes the current snapshot stale
+    private void beforeAction() {
+        AsyncSession.drain(driver);
+        invalidateSnapshot();
+    }
+    
+    // Evaluates every predicate of the check in one script per poll until all pass or the wait times out, like a
+    // lookup sitting out the implicit wait, and logs which ones failed last
+    protected PageCheck.Result check(PageCheck check) {
+        Deadline.check("checking", check.getName());
+        AsyncSession.drain(driver);
+        PageCheck.Result[] last = new PageCheck.Result[1];
+        ExpectedCondition<PageCheck.Result> passes = new ExpectedCondition<>() {
+            @Override
+            public PageCheck.Result apply(WebDriver d) {
+                last[0] = check.evaluate(d);
+                return last[0].passed() ? last[0] : null;
+            }
+            
+            @Override
+            public String toString() {
+                return "check '" + check.getName() + "' to pass";
+            }
+        };
+        try {
+            try {
+                waitUntil(passes);
+            } catch (TimeoutException e) {
+                // The last failing result says which predicates never passed
+            }
+            PageCheck.Result result = last[0];
+            logger.info("{}", result);
+            if (result.passed()) {
+                logInfo(result.toString());
+            } else {
+                logWarning(result.toString());
+            }
+            return result;
+        } catch (Exception e) {
+            logger.error("Failed to evaluate check '{}': {}", check.getName(), e.getMessage());
+            logFail("Failed to evaluate check '" + check.getName() + "': " + e.getMessage());
+            throw new RuntimeException("Failed to evaluate page check", e);
+        }
+    }
+    
+    // =======================================================
+    // Async variants: commands run off the test thread so independent reads can overlap, e.g.
+    // await(isDisplayedAsync(a)) && await(isDisplayedAsync(b)) issues both lookups before waiting for either.
+    // Reads wait for earlier actions of the session, actions wait for everything issued before them, and the
+    // synchronous helpers wait for all outstanding async commands before they read, wait or act.
+    
+    protected <T> CompletableFuture<T> readAsync(Supplier<T> read) {
+        return AsyncSession.of(driver).read(read);
+    }
+    
+    protected <T> CompletableFuture<T> actAsync(Supplier<T> action) {
+        return AsyncSession.of(driver).act(action);
+    }
+    
+    protected CompletableFuture<Void> actAsync(Runnable action) {
+        return actAsync(() -> {
+            action.run();
+            return null;
+        });
+    }
+    
+    protected CompletableFuture<List<WebElement>> findElementsAsync(By locator) {
+        return readAsync(() -> findElements(locator));
+    }
+    
+    protected CompletableFuture<String> getTextAsync(By locator) {
+        return readAsync(() -> getText(locator));
+    }
+    
+    protected CompletableFuture<String> getAttributeAsync(By locator, String attributeName) {
+        return readAsync(() -> getAttribute(locator, attributeName));
+    }
+    
+    protected CompletableFuture<Boolean> isDisplayedAsync(By locator) {
+        return readAsync(() -> isDisplayed(locator));
+    }
+    
+    protected CompletableFuture<Boolean> isElementPresentAsync(By locator) {
+        return readAsync(() -> isElementPresent(locator));
+    }
+    
+    protected CompletableFuture<String> getPageTitleAsync() {
+        return readAsync(this::getPageTitle);
+    }
+    
+    protected CompletableFuture<String> getCurrentUrlAsync() {
+        return readAsync(this::getCurrentUrl);
+    }
+    
+    protected CompletableFuture<PageCheck.Result> checkAsync(PageCheck check) {
+        return readAsync(() -> check(check));
+    }
+    
+    // Scripts may change the page, so they are ordered like actions
+    protected CompletableFuture<Object> executeJavaScriptAsync(String script, Object... args) {
+        return actAsync(() -> executeJavaScript(script, args));
+    }
+    
+    protected CompletableFuture<Void> clickAsync(By locator) {
+        return actAsync(() -> click(locator));
+    }
+    
+    protected CompletableFuture<Void> sendKeysAsync(By locator, String text) {
+        return actAsync(() -> sendKeys(locator, text));
+    }
+    
+    // Blocks like the synchronous helpers and rethrows their exceptions; interruptible so the watchdog can end a hung test
+    protected <T> T await(CompletableFuture<T> future) {
+        TimeLedger.begin(TimeLedger.Category.BROWSER);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a page command", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                    ? e.getCause().getCause()
+                    : e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException("Page command failed", cause);
+        } finally {
+            TimeLedger.end();
+        }
+    }
+    
+    protected void awaitAll(CompletableFuture<?>... futures) {
+        await(CompletableFuture.allOf(futures));
+    }
+    
+    // All explicit waits go through here so each one is visible as a JFR wait event with its poll count
+    protected <T> T waitUntil(ExpectedCondition<T> condition) {
+        return waitUntil(wait, condition);
+    }
+    
+    protected <T> T waitUntil(WebDriverWait waitToUse, ExpectedCondition<T> condition) {
+        return waitUntil(waitToUse, condition, TimeLedger.Category.EXPLICIT_WAIT);
+    }
+    
+    private <T> T waitUntil(WebDriverWait waitToUse, ExpectedCondition<T> condition, TimeLedger.Category category) {
+        Deadline.check("waiting for", condition);
+        AsyncSession.drain(driver);
+        WaitEvent event = new WaitEvent();
+        event.begin();
+        TimeLedger.begin(category);
+        CountingCondition<T> counted = new CountingCondition<>(condition);
+        try {
+            return waitToUse.until(counted);
+        } catch (TimeoutException e) {
+            event.timedOut = true;
+            throw e;
+        } finally {
+            // Waiting means the page changes on its own, which no command tracking can see
+            invalidateSnapshot();
+            TimeLedger.end();
+            event.end();
+            if (event.shouldCommit()) {
+                event.test = TestContext.getTestName();
+                event.pageObject = getClass().getSimpleName();
+                event.condition = String.valueOf(condition);
+                event.polls = counted.polls;
+                event.commit();
+            }
+        }
+    }
+    
+    // Keeps the wrapped condition's toString so WebDriverWait timeout messages stay readable
+    private static final class CountingCondition<T> implements ExpectedCondition<T> {
+        private final ExpectedCondition<T> condition;
+        private int polls;
+        
+        CountingCondition(ExpectedCondition<T> condition) {
+            this.condition = condition;
+        }
+        
+        @Override
+        public T apply(WebDriver driver) {
+            // Stops the wait at the test deadline instead of at its own timeout
+            Deadline.check("waiting for", condition);
+            polls++;
+            return condition.apply(driver);
+        }
+        
+        @Override
+        public String toString() {
+            return condition.toString();
+        }
+    }
+    
+    // Page objects override this to block ads, trackers and heavy resources while they navigate
+    protected NetworkProfile getNetworkProfile() {
+        return null;
+    }
+    
+    // Page objects override this to have LCP, total blocking time etc. checked after each navigation
+    protected PerformanceBudget getPerformanceBudget() {
+        return null;
+    }
+    
+    // Page objects override this with the element, DOM stability window or JS flag that makes them usable
+    protected ExpectedCondition<?> getReadinessCondition() {
+        return Readiness.documentInteractive();
+    }
+    
     protected void navigateTo(String url) {
+        navigateTo(url, getReadinessCondition());
+    }
+    
+    // With the eager/none page-load strategies driver.get returns early, so the readiness condition defines arrival
+    protected void navigateTo(String url, ExpectedCondition<?> readinessCondition) {
         logger.info("Navigating to URL: {}", url);
         logInfo("Navigating to URL: " + url);
+        beforeAction();
+        NetworkProfile networkProfile = getNetworkProfile();
+        PerformanceBudget performanceBudget = getPerformanceBudget();
+        Deadline.check("navigating to", url);
+        TimeLedger.begin(TimeLedger.Category.NAVIGATION);
         try {
-            driver.get(url);
-            logger.info("Successfully navigated to: {}", url);
-            logPass("Successfully navigated to: " + url);
+            if (networkProfile != null) {
+                NetworkBlocker.apply(driver, networkProfile);
+            } else {
+                NetworkBlocker.clear(driver);
+            }
+            if (performanceBudget != null) {
+                PagePerformance.prepare(driver);
+            }
+            long start = System.nanoTime();
+            Duration pageLoadTimeout = Duration.ofSeconds(NAVIGATION_TIMEOUT);
+            Duration cappedTimeout = Deadline.cap(pageLoadTimeout);
+            boolean capped = cappedTimeout.compareTo(pageLoadTimeout) < 0;
+            if (capped) {
+                driver.manage().timeouts().pageLoadTimeout(cappedTimeout);
+            }
+            try {
+                driver.get(url);
+            } finally {
+                // BaseTest sets the timeouts again for the next test, so this only matters within the current one
+                if (capped) {
+                    driver.manage().timeouts().pageLoadTimeout(pageLoadTimeout);
+                }
+            }
+            waitUntil(new WebDriverWait(driver, Duration.ofSeconds(NAVIGATION_TIMEOUT)), readinessCondition,
+                    TimeLedger.Category.NAVIGATION);
+            long timeToInteractiveMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            if (networkProfile != null) {
+                NetworkBlocker.recordPageLoad(driver, networkProfile, url, timeToInteractiveMs);
+            }
+            ProfileTemplate.recordNavigation(driver, url, timeToInteractiveMs);
+            logger.info("Successfully navigated to: {} (time to interactive: {} ms)", url, timeToInteractiveMs);
+            logPass("Successfully navigated to: " + url + " (time to interactive: " + timeToInteractiveMs + " ms)");
+        } catch (TimeoutException e) {
+            Deadline.check("navigating to", url);
+            logger.error("Page {} not ready within {} s: {}", url, NAVIGATION_TIMEOUT, readinessCondition);
+            logFail("Page " + url + " not ready within " + NAVIGATION_TIMEOUT + " s, waiting for " + readinessCondition);
+            throw new RuntimeException("Page not ready within timeout", e);
         } catch (Exception e) {
             logger.error("Failed to navigate to URL: {}", url, e);
             logFail("Failed to navigate to URL: " + url + " - " + e.getMessage());
             throw new RuntimeException("Failed to navigate to URL", e);
+        } finally {
+            TimeLedger.end();
+        }
+        // Outside the try so a hard budget breach fails the test as an assertion instead of a navigation error
+        if (performanceBudget != null) {
+            PagePerformance.check(driver, performanceBudget, url);
         }
     }
     
     // Make these methods public so they can be accessed from test classes
     public String getCurrentUrl() {
+        AsyncSession.drain(driver);
         try {
             return driver.getCurrentUrl();
         } catch (Exception e) {
@@ -276,6 +587,7 @@ public abstract class BasePage {
     }
     
     public String getPageTitle() {
+        AsyncSession.drain(driver);
         try {
             return driver.getTitle();
         } catch (Exception e) {
@@ -297,7 +609,7 @@ public abstract class BasePage {
     
     protected void waitForPageToLoad() {
         try {
-            wait.until(driver -> ((JavascriptExecutor) driver).executeScript("return document.readyState").equals("complete"));
+            waitUntil(driver -> ((JavascriptExecutor) driver).executeScript("return document.readyState").equals("complete"));
             logInfo("Page loaded completely");
         } catch (Exception e) {
             logger.warn("Page load wait timeout: {}", e.getMessage());
@@ -308,7 +620,7 @@ public abstract class BasePage {
     // Additional wait methods for better stability
     protected void waitForElementToDisappear(By locator) {
         try {
-            wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+            waitUntil(ExpectedConditions.invisibilityOfElementLocated(locator));
             logInfo("Element disappeared: " + locator);
         } catch (TimeoutException e) {
             logger.warn("Element did not disappear within timeout: {}", locator);
@@ -318,7 +630,7 @@ public abstract class BasePage {
     
     protected void waitForTextToBePresentInElement(By locator, String text) {
         try {
-            wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+            waitUntil(ExpectedConditions.textToBePresentInElementLocated(locator, text));
             logInfo("Text '" + text + "' found in element: " + locator);
         } catch (TimeoutException e) {
             logger.error("Text '{}' not found in element {} within timeout", text, locator);
@@ -329,6 +641,7 @@ public abstract class BasePage {
     
     // Refresh and navigation utilities
     protected void refreshPage() {
+        beforeAction();
         try {
             driver.navigate().refresh();
             logInfo("Page refreshed successfully");
@@ -340,6 +653,7 @@ public abstract class BasePage {
     }
     
     protected void navigateBack() {
+        beforeAction();
         try {
             driver.navigate().back();
             logInfo("Navigated back successfully");
@@ -351,6 +665,7 @@ public abstract class BasePage {
     }
     
     protected void navigateForward() {
+        beforeAction();
         try {
             driver.navigate().forward();
             logInfo("Navigated forward successfully");
@@ -362,10 +677,15 @@ public abstract class BasePage {
     }
 
     public void hardWait(int seconds) {
+        Deadline.check("sleeping");
+        TimeLedger.begin(TimeLedger.Category.SLEEP);
         try {
-            Thread.sleep(seconds * 1000L);
+            Thread.sleep(Deadline.cap(Duration.ofSeconds(seconds)).toMillis());
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
+        } finally {
+            TimeLedger.end();
         }
+        Deadline.check("continuing after sleep");
     }
 }
\ No newline at end of file
@@ -1,22 +1,44 @@
 package com.automation.base;
 
+import com.automation.deadline.Deadline;
+import com.automation.execution.BrowserPermits;
+import com.automation.fixtures.Fixtures;
+import com.automation.http.HttpClientMetrics;
+import com.automation.jfr.TestEvent;
+import com.automation.metrics.CommandInstrumentation;
+import com.automation.metrics.CommandMetrics;
+import com.automation.metrics.TimeLedger;
+import com.automation.network.NetworkBlocker;
+import com.automation.performance.PagePerformance;
+import com.automation.process.ProcessRegistry;
+import com.automation.process.ResourceSampler;
+import com.automation.profile.ProfileTemplate;
+import com.automation.retry.Flakiness;
+import com.automation.retry.RetryAnalyzer;
+import com.automation.steps.Steps;
 import com.automation.utils.ExtentManager;
+import com.automation.utils.TestContext;
+import com.automation.watchdog.Watchdog;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.OutputType;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.annotations.*;
 
+import java.io.File;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 public class BaseTest {
     
@@ -24,12 +46,27 @@ public class BaseTest {
     
     // ThreadLocal for parallel safety - FIXED
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
+    // Per-session copy of the warmed profile template, only set with -Dprofile.mode=template
+    private static final ThreadLocal<File> profileDirThreadLocal = new ThreadLocal<>();
+    // Undecorated session borrowed from DriverPool, only set with -Ddriver.pool=true
+    private static final ThreadLocal<WebDriver> pooledDriverThreadLocal = new ThreadLocal<>();
+    // JFR event spanning setUp to tearDown; only committed while a recording has it enabled
+    private static final ThreadLocal<TestEvent> testEventThreadLocal = new ThreadLocal<>();
+    // Sessions of failed tests kept for their retry, keyed by RetryAnalyzer.key
+    private static final Map<String, SalvagedSession> salvagedSessions = new ConcurrentHashMap<>();
+    
+    private record SalvagedSession(WebDriver driver, File profileDir, boolean permit) {
+    }
     
     // Configuration with proper defaults
     private String browser = System.getProperty("browser", "chrome");
     private boolean headless = Boolean.parseBoolean(System.getProperty("headless", "false"));
     private int implicitWait = Integer.parseInt(System.getProperty("implicit.wait", "10"));
     private int pageLoadTimeout = Integer.parseInt(System.getProperty("page.load.timeout", "30"));
+    // eager/none return from driver.get early; BasePage.navigateTo then waits on the page object's readiness condition
+    private String pageLoadStrategy = System.getProperty("page.load.strategy", "eager");
+    // Retries reuse the failed attempt's session after resetting it, instead of launching a new browser
+    private static final boolean RETRY_SALVAGE = Boolean.parseBoolean(System.getProperty("retry.salvage", "true"));
     
     // Public getter for driver - FIXED
     protected WebDriver getDriver() {
@@ -41,43 +78,103 @@ public class BaseTest {
     
     @BeforeSuite
     public void beforeSuite() {
+        ProcessRegistry.reapOrphans();
+        if (!ExtentManager.isEnabled()) {
+            return; // Monitor mode exports metrics instead of building a report per run
+        }
         ExtentManager.getInstance(); // Initialize ExtentReports
         ExtentManager.logInfo("Test Suite Started");
     }
     
     @AfterSuite
     public void afterSuite() {
+        quitSalvagedSessions();
+        ProcessRegistry.reapClosed();
+        if (!ExtentManager.isEnabled()) {
+            return;
+        }
         ExtentManager.logInfo("Test Suite Completed");
+        NetworkBlocker.publishSummary();
+        PagePerformance.publishSummary();
+        ProfileTemplate.publishSummary();
+        Fixtures.publishSummary();
+        CommandMetrics.publish();
+        HttpClientMetrics.publishSummary();
+        DomSnapshot.publishSummary();
+        TimeLedger.publish();
+        Steps.publishSummary();
+        DriverCircuitBreaker.publishSummary();
+        Flakiness.publishSummary();
+        ResourceSampler.publishSummary();
+        ProcessRegistry.publishSummary();
+        BrowserPermits.publishSummary();
         ExtentManager.flush(); // Generate the report
     }
     
     @BeforeMethod
     @Parameters({"browser"})
-    public void setUp(@Optional("chrome") String browserParam, ITestResult result) {
+    public void setUp(@Optional("chrome") String browserParam, ITestContext context, ITestResult result) {
         // Create ExtentTest for this test method - FIXED thread safety
         String testName = result.getMethod().getMethodName();
-        String testDescription = result.getMethod().getDescription();
-        if (testDescription == null || testDescription.isEmpty()) {
-            testDescription = "Test method: " + testName;
-        }
-        ExtentManager.createTest(testName, testDescription);
-        
-        // FIXED: Proper handling of browser parameter
-        if (browserParam != null && !browserParam.trim().isEmpty() && !"chrome".equals(browserParam.trim())) {
-            this.browser = browserParam.trim();
-        } else {
-            // Fallback to system property or default
-            this.browser = System.getProperty("browser", "chrome");
+        String qualifiedName = result.getTestClass().getRealClass().getSimpleName() + "." + testName;
+        TimeLedger.start(qualifiedName);
+        try {
+            // Queueing for a browser is recorded but does not count against the test's budget
+            TimeLedger.begin(TimeLedger.Category.BROWSER_PERMIT);
+            try {
+                if (!salvagedSessions.containsKey(RetryAnalyzer.key(result))) {
+                    BrowserPermits.acquire();
+                }
+            } finally {
+                TimeLedger.end();
+            }
+            Deadline.start(qualifiedName, Deadline.budgetFor(result.getMethod().getConstructorOrMethod().getMethod(),
+                    context.getSuite().getParameter("test.budget.seconds")));
+            String testDescription = result.getMethod().getDescription();
+            if (testDescription == null || testDescription.isEmpty()) {
+                testDescription = "Test method: " + testName;
+            }
+            int retry = RetryAnalyzer.retriesSoFar(result);
+            ExtentManager.createTest(retry > 0 ? testName + " (retry " + retry + ")" : testName, testDescription);
+            Flakiness.markLane(result);
+            TestContext.setTestName(qualifiedName);
+            TestEvent testEvent = new TestEvent();
+            testEvent.begin();
+            testEventThreadLocal.set(testEvent);
+            
+            // FIXED: Proper handling of browser parameter
+            if (browserParam != null && !browserParam.trim().isEmpty() && !"chrome".equals(browserParam.trim())) {
+                this.browser = browserParam.trim();
+            } else {
+                // Fallback to system property or default
+                this.browser = System.getProperty("browser", "chrome");
+            }
+            
+            logger.info("Setting up WebDriver for browser: {} on thread: {}", browser, Thread.currentThread().getName());
+            ExtentManager.logInfo("Setting up WebDriver for browser: " + browser + " on thread: " + Thread.currentThread().getName());
+            
+            TimeLedger.begin(TimeLedger.Category.DRIVER_STARTUP);
+            try {
+                if (!resumeSalvagedSession(result)) {
+                    initializeDriver();
+                }
+                configureDriver();
+            } finally {
+                TimeLedger.end();
+            }
+        } catch (RuntimeException | Error e) {
+            // tearDown does not run after a failed setUp, so the permit and per-test state must not outlive it
+            BrowserPermits.release();
+            Deadline.clear();
+            testEventThreadLocal.remove();
+            TimeLedger.discard();
+            throw e;
         }
         
-        logger.info("Setting up WebDriver for browser: {} on thread: {}", browser, Thread.currentThread().getName());
-        ExtentManager.logInfo("Setting up WebDriver for browser: " + browser + " on thread: " + Thread.currentThread().getName());
-        
-        initializeDriver();
-        configureDriver();
-        
         // Set the driver for backward compatibility
         this.driver = getDriver();
+        Watchdog.register(qualifiedName, driver);
+        ResourceSampler.start(qualifiedName, driver);
         
         logger.info("WebDriver setup completed successfully on thread: {}", Thread.currentThread().getName());
         ExtentManager.logPass("WebDriver setup completed successfully");
@@ -87,6 +184,18 @@ public class BaseTest {
     public void tearDown(ITestResult result) {
         String testName = result.getName();
         WebDriver currentDriver = getDriver();
+        // Screenshots and cleanup must still run after the test used up its budget
+        Deadline.clear();
+        String stallReport = Watchdog.consumeStallReport();
+        if (stallReport != null) {
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new RuntimeException("Test hung and was recovered by the watchdog: " + stallReport,
+                    result.getThrowable()));
+        }
+        if (Flakiness.quarantineFailure(result)) {
+            logger.warn("Quarantined test failed, reporting it as skipped (flaky.quarantine.nonblocking): {}", testName);
+        }
+        TimeLedger.begin(TimeLedger.Category.TEARDOWN);
         
         if (result.getStatus() == ITestResult.FAILURE) {
             logger.error("Test failed: {}", testName);
@@ -121,10 +230,26 @@ public class BaseTest {
             }
         }
         
+        // Last sample while the browser is still open
+        ResourceSampler.stop();
         if (currentDriver != null) {
+            // A failed async action of this test must not fail the next test that gets the same session
+            AsyncSession.close(currentDriver);
+        }
+        
+        WebDriver pooledDriver = pooledDriverThreadLocal.get();
+        if (pooledDriver != null) {
+            logger.info("Returning WebDriver to the pool on thread: {}", Thread.currentThread().getName());
+            DriverPool.release(browser, pooledDriver);
+            pooledDriverThreadLocal.remove();
+            driverThreadLocal.remove();
+        } else if (currentDriver != null && stallReport == null && salvageForRetry(result, currentDriver)) {
+            driverThreadLocal.remove();
+        } else if (currentDriver != null) {
             logger.info("Closing WebDriver on thread: {}", Thread.currentThread().getName());
             ExtentManager.logInfo("Closing WebDriver");
             try {
+                ProcessRegistry.release(currentDriver);
                 currentDriver.quit();
             } catch (Exception e) {
                 logger.warn("Error closing driver: {}", e.getMessage());
@@ -132,9 +257,85 @@ public class BaseTest {
                 driverThreadLocal.remove(); // Clean up ThreadLocal
             }
         }
+        ProfileTemplate.releaseAsync(profileDirThreadLocal.get());
+        profileDirThreadLocal.remove();
+        BrowserPermits.release();
+        // Kept until the session is closed so a quit() that never returns is recovered too
+        Watchdog.unregister();
+        TimeLedger.end();
+        TimeLedger.finish();
+        
+        TestEvent testEvent = testEventThreadLocal.get();
+        if (testEvent != null) {
+            testEvent.end();
+            if (testEvent.shouldCommit()) {
+                testEvent.test = TestContext.getTestName();
+                testEvent.browser = browser;
+                testEvent.status = statusName(result.getStatus());
+                testEvent.commit();
+            }
+            testEventThreadLocal.remove();
+        }
         
         // Remove the ExtentTest from ThreadLocal
         ExtentManager.removeTest();
+        Steps.clear();
+        TestContext.clear();
+    }
+    
+    private static String statusName(int status) {
+        return switch (status) {
+            case ITestResult.SUCCESS -> "PASS";
+            case ITestResult.FAILURE -> "FAIL";
+            case ITestResult.SKIP -> "SKIP";
+            default -> String.valueOf(status);
+        };
+    }
+    
+    // A failed test that is about to be retried hands its session to the retry when the session still responds
+    private boolean salvageForRetry(ITestResult result, WebDriver currentDriver) {
+        if (!RETRY_SALVAGE || result.getStatus() != ITestResult.FAILURE || !RetryAnalyzer.willRetry(result)
+                || !DriverPool.reset(currentDriver)) {
+            return false;
+        }
+        salvagedSessions.put(RetryAnalyzer.key(result), new SalvagedSession(currentDriver, profileDirThreadLocal.get(),
+                BrowserPermits.detach()));
+        profileDirThreadLocal.remove();
+        logger.info("Keeping WebDriver for the retry of {} on thread: {}", result.getName(), Thread.currentThread().getName());
+        ExtentManager.logInfo("Keeping the browser session for the retry");
+        return true;
+    }
+    
+    private boolean resumeSalvagedSession(ITestResult result) {
+        SalvagedSession salvaged = salvagedSessions.remove(RetryAnalyzer.key(result));
+        if (salvaged == null) {
+            return false;
+        }
+        driverThreadLocal.set(salvaged.driver());
+        profileDirThreadLocal.set(salvaged.profileDir());
+        if (salvaged.permit()) {
+            BrowserPermits.adopt();
+        }
+        logger.info("Retrying with the session of the failed attempt on thread: {}", Thread.currentThread().getName());
+        ExtentManager.logInfo("Reusing the browser session of the failed attempt");
+        return true;
+    }
+    
+    // Sessions whose retry never ran, e.g. because it was skipped
+    private static void quitSalvagedSessions() {
+        salvagedSessions.values().forEach(salvaged -> {
+            try {
+                ProcessRegistry.release(salvaged.driver());
+                salvaged.driver().quit();
+            } catch (Exception e) {
+                logger.warn("Error closing salvaged driver: {}", e.getMessage());
+            }
+            ProfileTemplate.releaseAsync(salvaged.profileDir());
+            if (salvaged.permit()) {
+                BrowserPermits.releaseDetached();
+            }
+        });
+        salvagedSessions.clear();
     }
     
     private void initializeDriver() {
@@ -146,72 +347,93 @@ public class BaseTest {
         }
         
         WebDriver newDriver = null;
+        PageLoadStrategy loadStrategy = DriverFactory.loadStrategy(pageLoadStrategy);
+        // Skips right away while this browser's launches keep failing
+        DriverCircuitBreaker.beforeLaunch(browser);
         
         try {
-            switch (browser.toLowerCase().trim()) {
-                case "chrome":
-                    WebDriverManager.chromedriver().setup();
-                    ChromeOptions chromeOptions = new ChromeOptions();
-                    if (headless) {
-                        chromeOptions.addArguments("--headless");
-                    }
-                    chromeOptions.addArguments("--no-sandbox");
-                    chromeOptions.addArguments("--disable-dev-shm-usage");
-                    chromeOptions.addArguments("--disable-gpu");
-                    chromeOptions.addArguments("--window-size=1920,1080");
-                    chromeOptions.addArguments("--remote-allow-origins=*");
-                    chromeOptions.addArguments("--disable-web-security");
-                    chromeOptions.addArguments("--disable-features=VizDisplayCompositor");
-                    newDriver = new ChromeDriver(chromeOptions);
-                    break;
-                    
-                case "firefox":
-                    WebDriverManager.firefoxdriver().setup();
-                    FirefoxOptions firefoxOptions = new FirefoxOptions();
-                    if (headless) {
-                        firefoxOptions.addArguments("--headless");
-                    }
-                    newDriver = new FirefoxDriver(firefoxOptions);
-                    break;
-                    
-                case "edge":
-                    WebDriverManager.edgedriver().setup();
-                    EdgeOptions edgeOptions = new EdgeOptions();
-                    if (headless) {
-                        edgeOptions.addArguments("--headless");
-                    }
-                    newDriver = new EdgeDriver(edgeOptions);
-                    break;
-                    
-                default:
-                    logger.error("Unsupported browser: '{}'. Supported browsers: chrome, firefox, edge", browser);
-                    ExtentManager.logFail("Unsupported browser: '" + browser + "'. Supported browsers: chrome, firefox, edge");
-                    throw new IllegalArgumentException("Unsupported browser: '" + browser + "'. Supported browsers: chrome, firefox, edge");
+            if (DriverPool.isEnabled()) {
+                // Pooled sessions outlive the test, so they never get a per-session profile copy
+                newDriver = DriverPool.acquire(browser, () -> {
+                    WebDriver created = createDriver(loadStrategy, false);
+                    ProcessRegistry.register(created);
+                    return created;
+                });
+                pooledDriverThreadLocal.set(newDriver);
+            } else {
+                newDriver = createDriver(loadStrategy, ProfileTemplate.isEnabled());
+                ProcessRegistry.register(newDriver);
+            }
+            
+            // Time every driver command; the decorated driver keeps all interfaces of the original. The watchdog
+            // only sees activity through the decorator, so it needs one even with command metrics off
+            if (CommandMetrics.isEnabled() || Watchdog.isEnabled()) {
+                newDriver = CommandInstrumentation.decorate(newDriver);
+            }
+            if (!DriverPool.isEnabled()) {
+                ProfileTemplate.trackFirstNavigation(newDriver, profileDirThreadLocal.get() != null);
             }
             
             // Store in ThreadLocal for parallel safety
             driverThreadLocal.set(newDriver);
-            logger.info("Driver initialized successfully for browser: {} on thread: {}", browser, Thread.currentThread().getName());
+            DriverCircuitBreaker.recordSuccess(browser);
+            logger.info("Driver initialized successfully for browser: {} (page load strategy: {}) on thread: {}", browser, loadStrategy, Thread.currentThread().getName());
             
         } catch (Exception e) {
             logger.error("Failed to initialize driver for browser: {}", browser, e);
             ExtentManager.logFail("Failed to initialize driver: " + e.getMessage());
-            if (newDriver != null) {
+            DriverCircuitBreaker.recordFailure(browser, e);
+            WebDriver pooledDriver = pooledDriverThreadLocal.get();
+            if (pooledDriver != null) {
+                DriverPool.discard(pooledDriver);
+                pooledDriverThreadLocal.remove();
+            } else if (newDriver != null) {
                 try {
+                    ProcessRegistry.release(newDriver);
                     newDriver.quit();
                 } catch (Exception quitException) {
                     logger.warn("Error quitting driver after initialization failure: {}", quitException.getMessage());
                 }
             }
+            ProfileTemplate.releaseAsync(profileDirThreadLocal.get());
+            profileDirThreadLocal.remove();
             throw new RuntimeException("Failed to initialize WebDriver", e);
         }
     }
     
+    private WebDriver createDriver(PageLoadStrategy loadStrategy, boolean useProfileTemplate) {
+        switch (browser.toLowerCase().trim()) {
+            case "chrome":
+                WebDriverManager.chromedriver().setup();
+                ChromeOptions chromeOptions = DriverFactory.chromeOptions(headless, loadStrategy);
+                if (useProfileTemplate) {
+                    File profileDir = ProfileTemplate.newSessionProfile(chromeOptions);
+                    profileDirThreadLocal.set(profileDir);
+                    chromeOptions.addArguments("--user-data-dir=" + profileDir.getAbsolutePath());
+                }
+                return new ChromeDriver(chromeOptions);
+                
+            case "firefox":
+                WebDriverManager.firefoxdriver().setup();
+                return new FirefoxDriver(DriverFactory.firefoxOptions(headless, loadStrategy));
+                
+            case "edge":
+                WebDriverManager.edgedriver().setup();
+                return new EdgeDriver(DriverFactory.edgeOptions(headless, loadStrategy));
+                
+            default:
+                logger.error("Unsupported browser: '{}'. Supported browsers: chrome, firefox, edge", browser);
+                ExtentManager.logFail("Unsupported browser: '" + browser + "'. Supported browsers: chrome, firefox, edge");
+                throw new IllegalArgumentException("Unsupported browser: '" + browser + "'. Supported browsers: chrome, firefox, edge");
+        }
+    }
+    
     private void configureDriver() {
         WebDriver currentDriver = getDriver();
         if (currentDriver != null) {
-            currentDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitWait));
-            currentDriver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(pageLoadTimeout));
+            // Capped so a budget shorter than the timeouts is not overrun by a single lookup or page load
+            currentDriver.manage().timeouts().implicitlyWait(Deadline.cap(Duration.ofSeconds(implicitWait)));
+            currentDriver.manage().timeouts().pageLoadTimeout(Deadline.cap(Duration.ofSeconds(pageLoadTimeout)));
             currentDriver.manage().window().maximize();
             logger.info("Driver configured successfully");
         } else {
@@ -221,6 +443,7 @@ public class BaseTest {
     
     public String takeScreenshotAsBase64(String name) {
         logger.info("Taking screenshot: {}", name);
+        TimeLedger.begin(TimeLedger.Category.SCREENSHOT);
         try {
             WebDriver currentDriver = getDriver();
             if (currentDriver != null) {
@@ -233,6 +456,8 @@ public class BaseTest {
             logger.error("Failed to take screenshot: {}", e.getMessage());
             ExtentManager.logFail("Failed to take screenshot: " + e.getMessage());
             return null;
+        } finally {
+            TimeLedger.end();
         }
     }
     
@@ -257,6 +482,15 @@ public class BaseTest {
         ExtentManager.logSkip(message);
     }
     
+    // Timed, reported test step; see Steps
+    protected void step(String name, Runnable action) {
+        Steps.step(name, action);
+    }
+    
+    protected <T> T step(String name, Supplier<T> action) {
+        return Steps.step(name, action);
+    }
+    
     // Static utility methods for direct access (alternative approach)
     public static void info(String message) {
         ExtentManager.logInfo(message);
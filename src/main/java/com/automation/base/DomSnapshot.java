@@ -0,0 +1,170 @@
+package com.automation.base;
+
+import com.automation.metrics.CommandInstrumentation;
+import com.automation.utils.ExtentManager;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Selector;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Parsed copy of a session's DOM for read-heavy assertions: the page source is fetched once and the same By
+ * locators (CSS, XPath, id, name, class, tag, link text) are evaluated in the JVM without round trips. A snapshot
+ * is shared by the session's page objects and dropped as soon as anything may have changed the page: any
+ * BasePage action, navigation or explicit wait, and any non-read driver or element command. Changes the page
+ * makes by itself are not noticed until one of those happens. Commands are only seen on drivers decorated by
+ * CommandInstrumentation; any other driver gets a fresh snapshot on every read.
+ * <p>
+ * Text is the element's whitespace-normalised textContent, hidden descendants included, e.g. screen-reader-only
+ * spans and collapsed menus. It is not what getText returns: the snapshot has no layout, so it cannot tell whether
+ * an element is visible. Use it for counts, presence, attributes and text known to be fully visible.
+ */
+public final class DomSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomSnapshot.class);
+    // Keyed by the undecorated driver, whose equals and hashCode are identity and never reach the browser
+    private static final Map<WebDriver, DomSnapshot> snapshots = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final AtomicLong captured = new AtomicLong();
+    private static final AtomicLong reused = new AtomicLong();
+
+    private final Document document;
+    private final long domGeneration;
+    private final long capturedAtNanos = System.nanoTime();
+
+    private DomSnapshot(Document document, long domGeneration) {
+        this.document = document;
+        this.domGeneration = domGeneration;
+    }
+
+    // The session's snapshot, fetched again only when the page may have changed since the last one
+    static DomSnapshot of(WebDriver driver) {
+        WebDriver original = unwrap(driver);
+        long generation = CommandInstrumentation.domGeneration(driver);
+        DomSnapshot snapshot = snapshots.get(original);
+        boolean unchanged = generation != CommandInstrumentation.UNTRACKED && snapshot != null
+                && snapshot.domGeneration == generation;
+        if (unchanged) {
+            reused.incrementAndGet();
+            return snapshot;
+        }
+        long start = System.nanoTime();
+        String source = driver.getPageSource();
+        snapshot = parse(source == null ? "" : source, driver.getCurrentUrl(), generation);
+        snapshots.put(original, snapshot);
+        captured.incrementAndGet();
+        logger.debug("Captured DOM snapshot of {} ({} chars) in {} ms", snapshot.document.location(),
+                source == null ? 0 : source.length(), (System.nanoTime() - start) / 1_000_000);
+        return snapshot;
+    }
+
+    static DomSnapshot parse(String html, String url, long domGeneration) {
+        return new DomSnapshot(Jsoup.parse(html, url), domGeneration);
+    }
+
+    static void invalidate(WebDriver driver) {
+        snapshots.remove(unwrap(driver));
+    }
+
+    public static void publishSummary() {
+        long total = captured.get() + reused.get();
+        if (total == 0) {
+            return;
+        }
+        ExtentManager.addSummaryTable("DOM Snapshots", String.format("%.1f%% of snapshot reads were served without "
+                        + "fetching the page again", 100.0 * reused.get() / total),
+                new String[][]{
+                        {"Snapshot reads", "Page sources fetched", "Served from an existing snapshot"},
+                        {String.valueOf(total), String.valueOf(captured.get()), String.valueOf(reused.get())}});
+    }
+
+    public Elements select(By locator) {
+        if (!(locator instanceof By.Remotable remotable)) {
+            throw new IllegalArgumentException("Locator " + locator + " cannot be evaluated on a DOM snapshot");
+        }
+        String using = remotable.getRemoteParameters().using();
+        String value = String.valueOf(remotable.getRemoteParameters().value());
+        try {
+            return switch (using) {
+                case "id" -> document.getElementsByAttributeValue("id", value);
+                case "name" -> document.getElementsByAttributeValue("name", value);
+                case "class name" -> document.getElementsByClass(value);
+                case "tag name" -> document.getElementsByTag(value);
+                case "css selector" -> document.select(value);
+                case "xpath" -> document.selectXpath(value);
+                case "link text" -> links(value, true);
+                case "partial link text" -> links(value, false);
+                default -> throw new IllegalArgumentException("Unsupported locator strategy '" + using + "' in " + locator);
+            };
+        } catch (Selector.SelectorParseException e) {
+            throw new IllegalArgumentException("Locator " + locator + " is not supported on a DOM snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    public boolean isPresent(By locator) {
+        return !select(locator).isEmpty();
+    }
+
+    public int count(By locator) {
+        return select(locator).size();
+    }
+
+    // Text of the first match, empty when nothing matches
+    public String text(By locator) {
+        Element element = select(locator).first();
+        return element == null ? "" : element.text();
+    }
+
+    // One entry per match, empty ones included; hidden text included, unlike mapping getText over findElements
+    public List<String> texts(By locator) {
+        return select(locator).stream().map(Element::text).toList();
+    }
+
+    // Attribute of the first match as written in the markup, null when nothing matches or it is not set
+    public String attribute(By locator, String name) {
+        Element element = select(locator).first();
+        return element == null || !element.hasAttr(name) ? null : element.attr(name);
+    }
+
+    public String getTitle() {
+        return document.title();
+    }
+
+    public String getUrl() {
+        return document.location();
+    }
+
+    public long getAgeMillis() {
+        return (System.nanoTime() - capturedAtNanos) / 1_000_000;
+    }
+
+    private Elements links(String text, boolean exact) {
+        Elements links = new Elements();
+        for (Element link : document.getElementsByTag("a")) {
+            String linkText = link.text();
+            if (exact ? linkText.equals(text) : linkText.contains(text)) {
+                links.add(link);
+            }
+        }
+        return links;
+    }
+
+    private static WebDriver unwrap(WebDriver driver) {
+        WebDriver original = driver;
+        while (original instanceof WrapsDriver wrapper) {
+            original = wrapper.getWrappedDriver();
+        }
+        return original;
+    }
+}
@@ -0,0 +1,181 @@
+package com.automation.base;
+
+import com.automation.utils.ExtentManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.SkipException;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-browser circuit breaker around driver launches. After driver.breaker.failures consecutive launch failures
+ * (default 3) the breaker opens and tests for that browser are skipped straight away with the root cause instead
+ * of each waiting for its own failed launch. After driver.breaker.cooldown.seconds (default 60) one test is let
+ * through as a half-open probe: a successful launch closes the breaker, a failed one opens it again.
+ */
+public class DriverCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverCircuitBreaker.class);
+    private static final int FAILURE_THRESHOLD = Integer.parseInt(System.getProperty("driver.breaker.failures", "3"));
+    private static final long COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(Long.parseLong(System.getProperty("driver.breaker.cooldown.seconds", "60")));
+
+    private static final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final class Breaker {
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAtNanos;
+        private Throwable rootCause;
+        private int timesOpened;
+        private int skipped;
+        private int probes;
+        private final List<String> transitions = new ArrayList<>();
+
+        void transition(String browser, State next, String reason) {
+            String entry = LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss")) + " " + state + " → " + next + " (" + reason + ")";
+            state = next;
+            transitions.add(entry);
+            logger.warn("Driver circuit breaker for {}: {}", browser, entry);
+        }
+    }
+
+    private DriverCircuitBreaker() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("driver.breaker", "true")) && FAILURE_THRESHOLD > 0;
+    }
+
+    /**
+     * Called before launching a session. Throws SkipException while the breaker is open; once the cool-down has
+     * passed the first caller becomes the half-open probe and everyone else keeps skipping until it reports back.
+     */
+    public static void beforeLaunch(String browser) {
+        if (!isEnabled()) {
+            return;
+        }
+        Breaker breaker = breakers.computeIfAbsent(key(browser), b -> new Breaker());
+        String reason;
+        synchronized (breaker) {
+            switch (breaker.state) {
+                case CLOSED:
+                    return;
+                case OPEN:
+                    if (System.nanoTime() - breaker.openedAtNanos >= COOLDOWN_NANOS) {
+                        breaker.probes++;
+                        breaker.transition(browser, State.HALF_OPEN, "cool-down elapsed, probing with one launch");
+                        ExtentManager.logWarning("Driver circuit breaker for " + browser + " is half-open; this test is the probe launch");
+                        return;
+                    }
+                    reason = "open after " + breaker.consecutiveFailures + " consecutive launch failures";
+                    break;
+                default:
+                    reason = "half-open, waiting for the probe launch";
+                    break;
+            }
+            breaker.skipped++;
+        }
+        String message = "Driver circuit breaker for " + browser + " is " + reason + ". Root cause: " + describe(breaker.rootCause);
+        logger.info("Skipping test: {}", message);
+        ExtentManager.logSkip(message);
+        throw new SkipException(message, breaker.rootCause);
+    }
+
+    public static void recordSuccess(String browser) {
+        if (!isEnabled()) {
+            return;
+        }
+        Breaker breaker = breakers.get(key(browser));
+        if (breaker == null) {
+            return;
+        }
+        synchronized (breaker) {
+            if (breaker.state != State.CLOSED) {
+                breaker.transition(browser, State.CLOSED, "launch succeeded");
+                ExtentManager.logPass("Driver circuit breaker for " + browser + " closed again after a successful launch");
+            }
+            breaker.consecutiveFailures = 0;
+        }
+    }
+
+    public static void recordFailure(String browser, Throwable failure) {
+        if (!isEnabled()) {
+            return;
+        }
+        Breaker breaker = breakers.computeIfAbsent(key(browser), b -> new Breaker());
+        synchronized (breaker) {
+            breaker.consecutiveFailures++;
+            breaker.rootCause = rootCause(failure);
+            boolean probeFailed = breaker.state == State.HALF_OPEN;
+            if (probeFailed || (breaker.state == State.CLOSED && breaker.consecutiveFailures >= FAILURE_THRESHOLD)) {
+                breaker.openedAtNanos = System.nanoTime();
+                breaker.timesOpened++;
+                breaker.transition(browser, State.OPEN, probeFailed ? "probe launch failed"
+                        : breaker.consecutiveFailures + " consecutive launch failures");
+                ExtentManager.logWarning("Driver circuit breaker for " + browser + " opened: " + describe(breaker.rootCause)
+                        + ". Tests for this browser are skipped for the next "
+                        + TimeUnit.NANOSECONDS.toSeconds(COOLDOWN_NANOS) + " s");
+            }
+        }
+    }
+
+    public static State state(String browser) {
+        Breaker breaker = breakers.get(key(browser));
+        if (breaker == null) {
+            return State.CLOSED;
+        }
+        synchronized (breaker) {
+            return breaker.state;
+        }
+    }
+
+    // Only browsers that failed at least once get a row
+    public static void publishSummary() {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Browser", "State", "Consecutive failures", "Times opened", "Probes", "Tests skipped", "Root cause", "Transitions"});
+        new TreeMap<>(breakers).forEach((browser, breaker) -> {
+            synchronized (breaker) {
+                rows.add(new String[]{browser, breaker.state.name(), String.valueOf(breaker.consecutiveFailures),
+                        String.valueOf(breaker.timesOpened), String.valueOf(breaker.probes), String.valueOf(breaker.skipped),
+                        describe(breaker.rootCause), breaker.transitions.isEmpty() ? "-" : String.join("<br>", breaker.transitions)});
+            }
+        });
+        if (rows.size() > 1) {
+            ExtentManager.addSummaryTable("Driver Circuit Breakers", "Launch failures per browser; opens after "
+                    + FAILURE_THRESHOLD + " consecutive failures, probes again after "
+                    + TimeUnit.NANOSECONDS.toSeconds(COOLDOWN_NANOS) + " s", rows.toArray(new String[0][]));
+        }
+    }
+
+    private static String key(String browser) {
+        return browser.toLowerCase().trim();
+    }
+
+    private static Throwable rootCause(Throwable failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    // First line only; driver launch errors append long build and system info blocks
+    private static String describe(Throwable cause) {
+        if (cause == null) {
+            return "unknown";
+        }
+        String message = cause.getMessage() == null ? "" : cause.getMessage().lines().findFirst().orElse("");
+        return cause.getClass().getSimpleName() + (message.isEmpty() ? "" : ": " + message);
+    }
+}
@@ -0,0 +1,97 @@
+package com.automation.base;
+
+import com.automation.http.PooledHttpClientFactory;
+import com.automation.process.ProcessRegistry;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Browser options shared by BaseTest and runners that manage drivers outside TestNG (load mode, monitors).
+ */
+public class DriverFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverFactory.class);
+
+    // Before any driver is created, so every session gets the shared HTTP client
+    static {
+        PooledHttpClientFactory.install();
+    }
+
+    private DriverFactory() {
+    }
+
+    public static PageLoadStrategy loadStrategy(String name) {
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(name);
+        if (strategy == null) {
+            logger.warn("Unknown page load strategy '{}', defaulting to eager", name);
+            return PageLoadStrategy.EAGER;
+        }
+        return strategy;
+    }
+
+    public static ChromeOptions chromeOptions(boolean headless, PageLoadStrategy loadStrategy) {
+        ChromeOptions chromeOptions = new ChromeOptions();
+        chromeOptions.setPageLoadStrategy(loadStrategy);
+        if (headless) {
+            chromeOptions.addArguments("--headless");
+        }
+        chromeOptions.addArguments("--no-sandbox");
+        chromeOptions.addArguments("--disable-dev-shm-usage");
+        chromeOptions.addArguments("--disable-gpu");
+        chromeOptions.addArguments("--window-size=1920,1080");
+        chromeOptions.addArguments("--remote-allow-origins=*");
+        chromeOptions.addArguments("--disable-web-security");
+        chromeOptions.addArguments("--disable-features=VizDisplayCompositor");
+        return chromeOptions;
+    }
+
+    public static FirefoxOptions firefoxOptions(boolean headless, PageLoadStrategy loadStrategy) {
+        FirefoxOptions firefoxOptions = new FirefoxOptions();
+        firefoxOptions.setPageLoadStrategy(loadStrategy);
+        if (headless) {
+            firefoxOptions.addArguments("--headless");
+        }
+        return firefoxOptions;
+    }
+
+    public static EdgeOptions edgeOptions(boolean headless, PageLoadStrategy loadStrategy) {
+        EdgeOptions edgeOptions = new EdgeOptions();
+        edgeOptions.setPageLoadStrategy(loadStrategy);
+        if (headless) {
+            edgeOptions.addArguments("--headless");
+        }
+        return edgeOptions;
+    }
+
+    // Plain session without BaseTest's per-test extras (profile template, command instrumentation)
+    public static WebDriver create(String browser, boolean headless, PageLoadStrategy loadStrategy) {
+        WebDriver driver;
+        switch (browser.toLowerCase().trim()) {
+            case "chrome":
+                WebDriverManager.chromedriver().setup();
+                driver = new ChromeDriver(chromeOptions(headless, loadStrategy));
+                break;
+            case "firefox":
+                WebDriverManager.firefoxdriver().setup();
+                driver = new FirefoxDriver(firefoxOptions(headless, loadStrategy));
+                break;
+            case "edge":
+                WebDriverManager.edgedriver().setup();
+                driver = new EdgeDriver(edgeOptions(headless, loadStrategy));
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported browser: '" + browser + "'. Supported browsers: chrome, firefox, edge");
+        }
+        ProcessRegistry.register(driver);
+        return driver;
+    }
+}
@@ -0,0 +1,136 @@
+package com.automation.base;
+
+import com.automation.process.ProcessRegistry;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps browser sessions alive between tests for long-running modes such as the synthetic monitor.
+ * Enabled with -Ddriver.pool=true; sessions are reset on release and recycled after driver.pool.max.uses tests
+ * so browser memory growth stays bounded.
+ */
+public class DriverPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+    private static final int MAX_IDLE = Integer.parseInt(System.getProperty("driver.pool.size", "2"));
+    private static final int MAX_USES = Integer.parseInt(System.getProperty("driver.pool.max.uses", "50"));
+
+    private static final Map<String, Deque<WebDriver>> idle = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, Integer> uses = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdown, "driver-pool-shutdown"));
+    }
+
+    private DriverPool() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("driver.pool", "false"));
+    }
+
+    // Hands out a healthy idle session for the browser, or a new one from the factory
+    public static WebDriver acquire(String browser, Supplier<WebDriver> factory) {
+        Deque<WebDriver> sessions = idle.computeIfAbsent(browser, b -> new ArrayDeque<>());
+        while (true) {
+            WebDriver driver;
+            synchronized (sessions) {
+                driver = sessions.pollFirst();
+            }
+            if (driver == null) {
+                break;
+            }
+            if (isHealthy(driver)) {
+                uses.merge(driver, 1, Integer::sum);
+                logger.debug("Reusing pooled {} session ({} uses)", browser, uses.get(driver));
+                return driver;
+            }
+            logger.info("Dropping unresponsive pooled {} session", browser);
+            discard(driver);
+        }
+        WebDriver driver = factory.get();
+        uses.put(driver, 1);
+        logger.info("Started new pooled {} session", browser);
+        return driver;
+    }
+
+    public static void release(String browser, WebDriver driver) {
+        AsyncSession.close(driver);
+        if (uses.getOrDefault(driver, 0) >= MAX_USES) {
+            logger.info("Recycling pooled {} session after {} uses", browser, MAX_USES);
+            discard(driver);
+            return;
+        }
+        if (!reset(driver)) {
+            discard(driver);
+            return;
+        }
+        Deque<WebDriver> sessions = idle.computeIfAbsent(browser, b -> new ArrayDeque<>());
+        synchronized (sessions) {
+            if (sessions.size() < MAX_IDLE) {
+                sessions.addFirst(driver);
+                return;
+            }
+        }
+        discard(driver);
+    }
+
+    public static void discard(WebDriver driver) {
+        uses.remove(driver);
+        try {
+            ProcessRegistry.release(driver);
+            driver.quit();
+        } catch (Exception e) {
+            logger.debug("Error quitting pooled session: {}", e.getMessage());
+        }
+    }
+
+    public static void shutdown() {
+        idle.values().forEach(sessions -> {
+            synchronized (sessions) {
+                sessions.forEach(DriverPool::discard);
+                sessions.clear();
+            }
+        });
+    }
+
+    // Leaves one blank window without cookies, so the next test starts like it would in a fresh session
+    static boolean reset(WebDriver driver) {
+        try {
+            String keep = driver.getWindowHandle();
+            for (String handle : driver.getWindowHandles()) {
+                if (!handle.equals(keep)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(keep);
+            if (driver instanceof HasCdp cdp) {
+                cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            logger.info("Failed to reset pooled session, discarding it: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
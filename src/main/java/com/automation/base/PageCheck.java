@@ -0,0 +1,206 @@
+package com.automation.base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Composite page state a page object declares once and evaluates in a single injected script, e.g.
+ * PageCheck.named("homepage loaded").visible(searchBox).titleContains("Amazon"). Each predicate gets its own
+ * result, so a failed check still says which part failed and what the page had instead. One evaluation reports a
+ * missing element straight away; BasePage.check re-evaluates the whole check, one round trip per poll, until it
+ * passes or the wait times out, as a lookup would sit out the implicit wait. Visibility follows
+ * WebDriver's isDisplayed closely but not exactly (size, display, visibility and opacity of the element and its
+ * ancestors).
+ */
+public final class PageCheck {
+
+    private static final String SCRIPT =
+            "function find(using, value) {" +
+            "  switch (using) {" +
+            "    case 'id': return Array.from(document.querySelectorAll('#' + CSS.escape(value)));" +
+            "    case 'name': return Array.from(document.getElementsByName(value));" +
+            "    case 'class name': return Array.from(document.getElementsByClassName(value));" +
+            "    case 'tag name': return Array.from(document.getElementsByTagName(value));" +
+            "    case 'css selector': return Array.from(document.querySelectorAll(value));" +
+            "    case 'xpath': {" +
+            "      var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "      var nodes = [];" +
+            "      for (var i = 0; i < snapshot.snapshotLength; i++) { nodes.push(snapshot.snapshotItem(i)); }" +
+            "      return nodes;" +
+            "    }" +
+            "    case 'link text': case 'partial link text':" +
+            "      return Array.from(document.querySelectorAll('a')).filter(function (a) {" +
+            "        var text = a.innerText.trim();" +
+            "        return using === 'link text' ? text === value : text.indexOf(value) >= 0;" +
+            "      });" +
+            "  }" +
+            "  throw new Error('Unsupported locator strategy: ' + using);" +
+            "}" +
+            "function visible(element) {" +
+            "  for (var e = element; e && e.nodeType === 1; e = e.parentElement) {" +
+            "    var style = getComputedStyle(e);" +
+            "    if (style.display === 'none' || style.opacity === '0') { return false; }" +
+            "  }" +
+            "  var rect = element.getBoundingClientRect();" +
+            "  return getComputedStyle(element).visibility !== 'hidden' && rect.width > 0 && rect.height > 0;" +
+            "}" +
+            "function text(element) { return (element.innerText || element.textContent || '').trim(); }" +
+            "return arguments[0].map(function (p) {" +
+            "  try {" +
+            "    if (p.type === 'title') {" +
+            "      return { passed: document.title.indexOf(p.expected) >= 0, actual: document.title };" +
+            "    }" +
+            "    if (p.type === 'url') {" +
+            "      return { passed: location.href.indexOf(p.expected) >= 0, actual: location.href };" +
+            "    }" +
+            "    var elements = find(p.using, p.value);" +
+            "    switch (p.type) {" +
+            "      case 'present': return { passed: elements.length > 0, actual: elements.length + ' found' };" +
+            "      case 'absent': return { passed: elements.length === 0, actual: elements.length + ' found' };" +
+            "      case 'count': return { passed: elements.length >= p.expected, actual: elements.length + ' found' };" +
+            "      case 'visible':" +
+            "        if (!elements.length) { return { passed: false, actual: 'not found' }; }" +
+            "        var shown = visible(elements[0]);" +
+            "        return { passed: shown, actual: shown ? 'visible' : 'hidden' };" +
+            "      case 'text':" +
+            "        if (!elements.length) { return { passed: false, actual: 'not found' }; }" +
+            "        var value = text(elements[0]);" +
+            "        return { passed: new RegExp(p.expected).test(value), actual: value };" +
+            "    }" +
+            "    return { passed: false, actual: 'unknown predicate ' + p.type };" +
+            "  } catch (e) {" +
+            "    return { passed: false, actual: 'error: ' + e.message };" +
+            "  }" +
+            "});";
+
+    /**
+     * One predicate's outcome; actual is what the page had, e.g. the title, the element's text or "not found".
+     */
+    public record Outcome(String predicate, boolean passed, String actual) {
+        @Override
+        public String toString() {
+            return predicate + (passed ? " ✓" : " ✗ (was " + actual + ")");
+        }
+    }
+
+    public record Result(String check, List<Outcome> outcomes) {
+
+        public boolean passed() {
+            return outcomes.stream().allMatch(Outcome::passed);
+        }
+
+        public List<Outcome> failures() {
+            return outcomes.stream().filter(outcome -> !outcome.passed()).toList();
+        }
+
+        @Override
+        public String toString() {
+            return check + ": " + (passed()
+                    ? "all " + outcomes.size() + " passed"
+                    : failures().size() + " of " + outcomes.size() + " failed - "
+                    + failures().stream().map(Outcome::toString).collect(Collectors.joining("; ")));
+        }
+    }
+
+    private final String name;
+    private final List<String> descriptions = new ArrayList<>();
+    private final List<Map<String, Object>> predicates = new ArrayList<>();
+
+    private PageCheck(String name) {
+        this.name = name;
+    }
+
+    public static PageCheck named(String name) {
+        return new PageCheck(name);
+    }
+
+    public PageCheck present(By locator) {
+        return element("present", locator, null, locator + " present");
+    }
+
+    public PageCheck absent(By locator) {
+        return element("absent", locator, null, locator + " absent");
+    }
+
+    public PageCheck atLeast(By locator, int count) {
+        return element("count", locator, count, "at least " + count + " of " + locator);
+    }
+
+    public PageCheck visible(By locator) {
+        return element("visible", locator, null, locator + " visible");
+    }
+
+    // Text of the first match, trimmed like getText, matched against a JavaScript regular expression
+    public PageCheck textMatches(By locator, String regex) {
+        return element("text", locator, regex, locator + " text matches /" + regex + "/");
+    }
+
+    public PageCheck textContains(By locator, String text) {
+        return element("text", locator, text.replaceAll("[.*+?^${}()|\\[\\]\\\\]", "\\\\$0"),
+                locator + " text contains '" + text + "'");
+    }
+
+    public PageCheck titleContains(String text) {
+        return add("title contains '" + text + "'", Map.of("type", "title", "expected", text));
+    }
+
+    public PageCheck urlContains(String text) {
+        return add("URL contains '" + text + "'", Map.of("type", "url", "expected", text));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // One round trip however many predicates the check has
+    public Result evaluate(WebDriver driver) {
+        return toResult(((JavascriptExecutor) driver).executeScript(SCRIPT, predicates));
+    }
+
+    // Pairs the script's result vector with the predicates, in declaration order
+    private Result toResult(Object scriptResult) {
+        if (!(scriptResult instanceof List<?> values) || values.size() != predicates.size()) {
+            throw new IllegalStateException("Check '" + name + "' returned " + scriptResult + " instead of "
+                    + predicates.size() + " results");
+        }
+        List<Outcome> outcomes = new ArrayList<>();
+        for (int i = 0; i < values.size(); i++) {
+            Map<?, ?> value = (Map<?, ?>) values.get(i);
+            outcomes.add(new Outcome(descriptions.get(i), Boolean.TRUE.equals(value.get("passed")),
+                    String.valueOf(value.get("actual"))));
+        }
+        return new Result(name, outcomes);
+    }
+
+    private PageCheck element(String type, By locator, Object expected, String description) {
+        if (!(locator instanceof By.Remotable remotable)) {
+            throw new IllegalArgumentException("Locator " + locator + " cannot be evaluated in the browser");
+        }
+        Map<String, Object> predicate = new LinkedHashMap<>();
+        predicate.put("type", type);
+        predicate.put("using", remotable.getRemoteParameters().using());
+        predicate.put("value", String.valueOf(remotable.getRemoteParameters().value()));
+        if (expected != null) {
+            predicate.put("expected", expected);
+        }
+        return add(description, predicate);
+    }
+
+    private PageCheck add(String description, Map<String, Object> predicate) {
+        descriptions.add(description);
+        predicates.add(predicate);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + descriptions;
+    }
+}
@@ -0,0 +1,108 @@
+package com.automation.base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.time.Duration;
+
+/**
+ * Readiness predicates page objects declare for navigation. With the eager/none page-load strategies
+ * driver.get returns before the load event, so navigation waits on one of these instead.
+ */
+public final class Readiness {
+
+    private static final String DOM_QUIET_SCRIPT =
+            "if (!window.__automationDomWatch) {" +
+            "  window.__automationDomWatch = { last: performance.now() };" +
+            "  new MutationObserver(function () { window.__automationDomWatch.last = performance.now(); })" +
+            "    .observe(document, { subtree: true, childList: true, attributes: true, characterData: true });" +
+            "}" +
+            "return performance.now() - window.__automationDomWatch.last;";
+
+    private Readiness() {
+    }
+
+    public static ExpectedCondition<Boolean> documentInteractive() {
+        return new ExpectedCondition<>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                Object state = ((JavascriptExecutor) driver).executeScript("return document.readyState");
+                return "interactive".equals(state) || "complete".equals(state);
+            }
+
+            @Override
+            public String toString() {
+                return "document to be interactive";
+            }
+        };
+    }
+
+    public static ExpectedCondition<Boolean> elementVisible(By locator) {
+        ExpectedCondition<?> visible = ExpectedConditions.visibilityOfElementLocated(locator);
+        return new ExpectedCondition<>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                return visible.apply(driver) != null;
+            }
+
+            @Override
+            public String toString() {
+                return visible.toString();
+            }
+        };
+    }
+
+    // True once no DOM mutation has been observed for the given quiet window
+    public static ExpectedCondition<Boolean> domStable(Duration quietWindow) {
+        return new ExpectedCondition<>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                Object sinceLastMutation = ((JavascriptExecutor) driver).executeScript(DOM_QUIET_SCRIPT);
+                return sinceLastMutation instanceof Number number && number.longValue() >= quietWindow.toMillis();
+            }
+
+            @Override
+            public String toString() {
+                return "DOM to be stable for " + quietWindow.toMillis() + " ms";
+            }
+        };
+    }
+
+    // App-specific flag, e.g. jsFlag("window.appReady === true")
+    public static ExpectedCondition<Boolean> jsFlag(String expression) {
+        return new ExpectedCondition<>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                Object value = ((JavascriptExecutor) driver).executeScript("return !!(" + expression + ");");
+                return Boolean.TRUE.equals(value);
+            }
+
+            @Override
+            public String toString() {
+                return "JavaScript flag '" + expression + "'";
+            }
+        };
+    }
+
+    // Every predicate of the check holds, evaluated in one script per poll
+    public static ExpectedCondition<Boolean> passes(PageCheck check) {
+        return new ExpectedCondition<>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                return check.evaluate(driver).passed();
+            }
+
+            @Override
+            public String toString() {
+                return "check " + check;
+            }
+        };
+    }
+
+    public static ExpectedCondition<Boolean> allOf(ExpectedCondition<?>... conditions) {
+        return ExpectedConditions.and(conditions);
+    }
+}
@@ -0,0 +1,103 @@
+package com.automation.deadline;
+
+import com.automation.metrics.TimeLedger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Per-test time budget that waits, navigations, steps and driver commands draw from. Each of them checks the
+ * deadline before it starts (waits also on every poll) and fails the test with a breakdown of where the time
+ * went once it has passed. A driver command already in flight is not interrupted, so a test can overrun its
+ * budget by one command: at most the implicit wait for a lookup that finds nothing, or the page load timeout for
+ * a navigation. BaseTest caps both timeouts by the budget when it sets up the driver.
+ */
+public class Deadline {
+
+    private static final Logger logger = LoggerFactory.getLogger(Deadline.class);
+    private static final String BUDGET_PROPERTY = "test.budget.seconds";
+
+    private static final ThreadLocal<State> current = new ThreadLocal<>();
+
+    private record State(String test, long budgetNanos, long startNanos) {
+        long deadlineNanos() {
+            return startNanos + budgetNanos;
+        }
+    }
+
+    private Deadline() {
+    }
+
+    // Method annotation, then class annotation, then the suite parameter, then -Dtest.budget.seconds (default 180); 0 disables
+    public static Duration budgetFor(Method method, String suiteParameter) {
+        TestBudget budget = method.getAnnotation(TestBudget.class);
+        if (budget == null) {
+            budget = method.getDeclaringClass().getAnnotation(TestBudget.class);
+        }
+        if (budget != null) {
+            return Duration.ofSeconds(budget.seconds());
+        }
+        String seconds = suiteParameter != null && !suiteParameter.isBlank()
+                ? suiteParameter
+                : System.getProperty(BUDGET_PROPERTY, "180");
+        return Duration.ofSeconds(Long.parseLong(seconds.trim()));
+    }
+
+    public static void start(String test, Duration budget) {
+        if (budget.isZero() || budget.isNegative()) {
+            current.remove();
+            return;
+        }
+        current.set(new State(test, budget.toNanos(), System.nanoTime()));
+    }
+
+    public static void clear() {
+        current.remove();
+    }
+
+    // Applies the running test's deadline to the action wherever it runs, e.g. on an async page command thread
+    public static <T> Supplier<T> bind(Supplier<T> action) {
+        State bound = current.get();
+        return () -> {
+            State previous = current.get();
+            current.set(bound);
+            try {
+                return action.get();
+            } finally {
+                current.set(previous);
+            }
+        };
+    }
+
+    // Time left for the running test, or null when it has no budget
+    public static Duration remaining() {
+        State state = current.get();
+        return state == null ? null : Duration.ofNanos(Math.max(0, state.deadlineNanos() - System.nanoTime()));
+    }
+
+    // The given timeout, shortened to what is left of the budget
+    public static Duration cap(Duration timeout) {
+        Duration remaining = remaining();
+        return remaining != null && remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+
+    public static void check(String activity) {
+        check(activity, null);
+    }
+
+    // The subject is only turned into a string once the deadline has passed, so per-poll checks stay cheap
+    public static void check(String activity, Object subject) {
+        State state = current.get();
+        if (state == null || System.nanoTime() < state.deadlineNanos()) {
+            return;
+        }
+        String message = String.format("Test budget of %d s exceeded after %.1f s, before %s. Time went to: %s",
+                Duration.ofNanos(state.budgetNanos()).toSeconds(), (System.nanoTime() - state.startNanos()) / 1e9,
+                subject == null ? activity : activity + " " + subject, TimeLedger.summarizeCurrent());
+        logger.error("{}: {}", state.test(), message);
+        throw new DeadlineExceededError(message);
+    }
+}
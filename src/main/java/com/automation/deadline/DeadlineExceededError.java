@@ -0,0 +1,14 @@
+package com.automation.deadline;
+
+/**
+ * Thrown once a test has used up its budget. An AssertionError, so the test fails rather than errors and
+ * the catch (Exception e) blocks in page objects and tests do not swallow it.
+ */
+public class DeadlineExceededError extends AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    public DeadlineExceededError(String message) {
+        super(message);
+    }
+}
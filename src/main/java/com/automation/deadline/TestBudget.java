@@ -0,0 +1,17 @@
+package com.automation.deadline;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Time budget for a test method, or for every test in a class. Overrides the suite default
+ * (the test.budget.seconds suite parameter or system property).
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface TestBudget {
+
+    long seconds();
+}
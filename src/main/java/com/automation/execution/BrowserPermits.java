@@ -0,0 +1,106 @@
+package com.automation.execution;
+
+import com.automation.utils.ExtentManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits how many tests hold a browser at once when thread count no longer does, e.g. in virtual-thread mode.
+ * browser.permits sets the limit (default 0: no limit). A permit is taken before the driver starts and given
+ * back once the session is closed; a session kept for a retry takes its permit along.
+ */
+public class BrowserPermits {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserPermits.class);
+    private static final int PERMITS = Integer.parseInt(System.getProperty("browser.permits", "0"));
+    private static final Semaphore semaphore = new Semaphore(Math.max(PERMITS, 0), true);
+
+    private static final ThreadLocal<Boolean> held = new ThreadLocal<>();
+    private static final AtomicInteger inUse = new AtomicInteger();
+    private static final AtomicInteger waiting = new AtomicInteger();
+    private static final LongAccumulator peakInUse = new LongAccumulator(Math::max, 0);
+    private static final LongAccumulator peakWaiting = new LongAccumulator(Math::max, 0);
+    private static final LongAdder acquired = new LongAdder();
+    private static final LongAdder waitNanos = new LongAdder();
+    private static final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    private BrowserPermits() {
+    }
+
+    public static boolean isEnabled() {
+        return PERMITS > 0;
+    }
+
+    // Blocks until a browser permit is free; does nothing if this thread already holds one
+    public static void acquire() {
+        if (!isEnabled() || Boolean.TRUE.equals(held.get())) {
+            return;
+        }
+        long start = System.nanoTime();
+        peakWaiting.accumulate(waiting.incrementAndGet());
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a browser permit", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+        long waited = System.nanoTime() - start;
+        waitNanos.add(waited);
+        maxWaitNanos.accumulate(waited);
+        acquired.increment();
+        peakInUse.accumulate(inUse.incrementAndGet());
+        held.set(true);
+        if (waited > 1_000_000_000L) {
+            logger.debug("Waited {} ms for a browser permit on thread: {}", waited / 1_000_000, Thread.currentThread().getName());
+        }
+    }
+
+    public static void release() {
+        if (Boolean.TRUE.equals(held.get())) {
+            held.remove();
+            inUse.decrementAndGet();
+            semaphore.release();
+        }
+    }
+
+    /**
+     * Stops this thread from owning its permit without returning it, for a session that outlives the test.
+     * Returns whether there was a permit to hand over.
+     */
+    public static boolean detach() {
+        boolean detached = Boolean.TRUE.equals(held.get());
+        held.remove();
+        return detached;
+    }
+
+    // Makes this thread the owner of a permit handed over with detach()
+    public static void adopt() {
+        held.set(true);
+    }
+
+    // Returns a permit handed over with detach() that nobody adopted
+    public static void releaseDetached() {
+        inUse.decrementAndGet();
+        semaphore.release();
+    }
+
+    public static void publishSummary() {
+        long count = acquired.sum();
+        if (!isEnabled() || count == 0) {
+            return;
+        }
+        ExtentManager.addSummaryTable("Browser Permits", "Tests queue for one of " + PERMITS + " browser permits",
+                new String[][]{
+                        {"Permits", "Acquired", "Peak in use", "Peak waiting", "Avg wait ms", "Max wait ms"},
+                        {String.valueOf(PERMITS), String.valueOf(count), String.valueOf(peakInUse.get()),
+                                String.valueOf(peakWaiting.get()), String.valueOf(waitNanos.sum() / count / 1_000_000),
+                                String.valueOf(maxWaitNanos.get() / 1_000_000)}});
+    }
+}
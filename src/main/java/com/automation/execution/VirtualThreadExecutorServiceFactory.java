@@ -0,0 +1,24 @@
+package com.automation.execution;
+
+import org.testng.IExecutorServiceFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gives TestNG one virtual thread per task instead of a fixed pool of platform threads. Pool sizes and the queue
+ * TestNG asks for are ignored, so thread-count no longer limits how many tests are in flight; BrowserPermits
+ * limits how many of them hold a browser.
+ */
+public class VirtualThreadExecutorServiceFactory implements IExecutorServiceFactory {
+
+    @Override
+    public ExecutorService create(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                  BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        // Named so log lines and thread dumps still show which test thread did what
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("test-virtual-", 0).factory());
+    }
+}
@@ -0,0 +1,38 @@
+package com.automation.execution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.TestNG;
+
+import java.util.List;
+
+/**
+ * Runs a TestNG suite with every test method on its own virtual thread (mvn -Pvirtual test-compile exec:java).
+ * Tests spend nearly all their time blocked on driver HTTP calls and waits, so they do not need an OS thread
+ * each; browser concurrency is set by browser.permits (default 5 here) instead of the suite's thread-count.
+ * The suite still needs parallel="methods" (or classes/tests) for TestNG to hand tests to the executor at all.
+ */
+public class VirtualThreadRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadRunner.class);
+
+    private VirtualThreadRunner() {
+    }
+
+    public static void main(String[] args) {
+        String suite = System.getProperty("suite.xml", "src/test/resources/testng.xml");
+        if (System.getProperty("browser.permits") == null) {
+            System.setProperty("browser.permits", "5");
+        }
+        logger.info("Running {} on virtual threads with {} browser permits", suite, System.getProperty("browser.permits"));
+
+        TestNG testng = new TestNG();
+        testng.setTestSuites(List.of(suite));
+        // Surefire cannot set this; TestNG only takes an executor factory programmatically or on its command line
+        testng.setExecutorServiceFactory(new VirtualThreadExecutorServiceFactory());
+        testng.run();
+        if (testng.getStatus() != 0) {
+            System.exit(testng.getStatus());
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.automation.fixtures;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded HTTP server standing in for one live origin. In RECORD mode it proxies to the origin and saves
+ * every response; in REPLAY mode it serves only what was recorded. Absolute URLs in text responses are
+ * rewritten to the server, other hosts to /__ext/&lt;host&gt;/..., so assets from CDNs are captured too.
+ */
+public class FixtureServer {
+
+    public enum Mode {
+        RECORD, REPLAY
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(FixtureServer.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final String EXTERNAL_PREFIX = "/__ext/";
+    private static final Pattern ABSOLUTE_URL = Pattern.compile("(https?:)?//([a-zA-Z0-9-]+(?:\\.[a-zA-Z0-9-]+)+)(?=[/\"'\\s)?#]|$)");
+    // Namespace and schema URLs are identifiers, not fetches - rewriting them breaks inline SVG and XML
+    private static final Set<String> NEVER_REWRITE = Set.of("www.w3.org", "schema.org", "ogp.me");
+    private static final Pattern CHARSET = Pattern.compile("charset=\"?([^\";\\s]+)", Pattern.CASE_INSENSITIVE);
+    private static final Set<String> FORWARDED_HEADERS = Set.of("content-type", "cache-control", "location");
+
+    private final String site;
+    private final URI origin;
+    private final Mode mode;
+    private final File storeDir;
+    private final HttpClient client;
+    private final Map<String, File> recordedByKey = new ConcurrentHashMap<>();
+    private final Map<String, File> recordedByPath = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private HttpServer server;
+    private String baseUrl;
+
+    public FixtureServer(String site, String originUrl, Mode mode, File storeDir) {
+        this.site = site;
+        this.origin = URI.create(originUrl);
+        this.mode = mode;
+        this.storeDir = storeDir;
+        this.client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public synchronized String start() {
+        if (server != null) {
+            return baseUrl;
+        }
+        try {
+            Files.createDirectories(storeDir.toPath());
+            loadIndex();
+            if (mode == Mode.REPLAY && recordedByKey.isEmpty()) {
+                throw new IllegalStateException("No fixtures recorded for " + site + " in " + storeDir
+                        + " - run once with -Dfixtures.mode=record first");
+            }
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/", this::handle);
+            server.setExecutor(Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "fixture-" + site);
+                thread.setDaemon(true);
+                return thread;
+            }));
+            server.start();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start fixture server for " + site, e);
+        }
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        logger.info("Fixture server for {} ({}) started in {} mode at {} with {} recorded responses",
+                site, origin, mode, baseUrl, recordedByKey.size());
+        return baseUrl;
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            URI upstream = upstreamUri(exchange.getRequestURI());
+            String key = exchange.getRequestMethod() + " " + upstream;
+            File recorded = recordedByKey.get(key);
+            if (recorded == null && mode == Mode.REPLAY) {
+                // Cache busters and session parameters change per run; fall back to the path without query
+                recorded = recordedByPath.get(exchange.getRequestMethod() + " " + withoutQuery(upstream));
+            }
+            if (recorded == null && mode == Mode.RECORD) {
+                recorded = record(exchange, upstream, key);
+            }
+            if (recorded == null) {
+                misses.incrementAndGet();
+                logger.debug("No fixture recorded for {}", key);
+                send(exchange, 404, Map.of("content-type", "text/plain"), ("No fixture recorded for " + key).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            hits.incrementAndGet();
+            serve(exchange, recorded);
+        } catch (Exception e) {
+            logger.warn("Fixture server {} failed on {}: {}", site, exchange.getRequestURI(), e.getMessage());
+            send(exchange, 502, Map.of("content-type", "text/plain"), String.valueOf(e.getMessage()).getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private File record(HttpExchange exchange, URI upstream, String key) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(upstream)
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept-Encoding", "identity");
+        String userAgent = exchange.getRequestHeaders().getFirst("User-Agent");
+        if (userAgent != null) {
+            request.header("User-Agent", userAgent);
+        }
+        String accept = exchange.getRequestHeaders().getFirst("Accept");
+        if (accept != null) {
+            request.header("Accept", accept);
+        }
+        byte[] requestBody = exchange.getRequestBody().readAllBytes();
+        request.method(exchange.getRequestMethod(), requestBody.length == 0
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(requestBody));
+
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        Map<String, String> headers = new LinkedHashMap<>();
+        response.headers().map().forEach((name, values) -> {
+            if (FORWARDED_HEADERS.contains(name.toLowerCase()) && !values.isEmpty()) {
+                headers.put(name.toLowerCase(), values.get(0));
+            }
+        });
+
+        RecordedResponse recorded = new RecordedResponse();
+        recorded.setKey(key);
+        recorded.setPathKey(exchange.getRequestMethod() + " " + withoutQuery(upstream));
+        recorded.setStatus(response.statusCode());
+        recorded.setHeaders(headers);
+
+        String name = hash(key);
+        File meta = new File(storeDir, name + ".json");
+        Files.write(new File(storeDir, name + ".body").toPath(), response.body());
+        mapper.writerWithDefaultPrettyPrinter().writeValue(meta, recorded);
+        recordedByKey.put(key, meta);
+        recordedByPath.putIfAbsent(recorded.getPathKey(), meta);
+        logger.debug("Recorded {} ({} bytes, status {})", key, response.body().length, response.statusCode());
+        return meta;
+    }
+
+    private void serve(HttpExchange exchange, File meta) throws IOException {
+        RecordedResponse recorded = mapper.readValue(meta, RecordedResponse.class);
+        byte[] body = Files.readAllBytes(new File(storeDir, meta.getName().replace(".json", ".body")).toPath());
+        Map<String, String> headers = new LinkedHashMap<>(recorded.getHeaders());
+        String contentType = headers.getOrDefault("content-type", "");
+        if (isText(contentType)) {
+            Charset charset = charsetOf(contentType);
+            body = rewrite(new String(body, charset)).getBytes(charset);
+        }
+        String location = headers.get("location");
+        if (location != null) {
+            headers.put("location", rewrite(location));
+        }
+        send(exchange, recorded.getStatus(), headers, body);
+    }
+
+    private void send(HttpExchange exchange, int status, Map<String, String> headers, byte[] body) throws IOException {
+        headers.forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+        boolean noBody = status == 204 || status == 304 || "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, noBody ? -1 : body.length);
+        if (!noBody) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    // Maps /path to the origin and /__ext/host/path to https://host/path
+    private URI upstreamUri(URI requestUri) {
+        String raw = requestUri.getRawPath() + (requestUri.getRawQuery() != null ? "?" + requestUri.getRawQuery() : "");
+        if (raw.startsWith(EXTERNAL_PREFIX)) {
+            String rest = raw.substring(EXTERNAL_PREFIX.length());
+            int slash = rest.indexOf('/');
+            String host = slash < 0 ? rest : rest.substring(0, slash);
+            String path = slash < 0 ? "/" : rest.substring(slash);
+            return URI.create("https://" + host + path);
+        }
+        return URI.create(origin.getScheme() + "://" + origin.getRawAuthority() + raw);
+    }
+
+    private String rewrite(String text) {
+        Matcher matcher = ABSOLUTE_URL.matcher(text);
+        StringBuilder result = new StringBuilder(text.length());
+        while (matcher.find()) {
+            String host = matcher.group(2);
+            String replacement;
+            if (host.equalsIgnoreCase(origin.getHost())) {
+                replacement = baseUrl;
+            } else if (NEVER_REWRITE.contains(host.toLowerCase()) || host.startsWith("127.0.0.1")) {
+                replacement = matcher.group();
+            } else {
+                replacement = baseUrl + EXTERNAL_PREFIX + host;
+            }
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private void loadIndex() throws IOException {
+        File[] metas = storeDir.listFiles((dir, name) -> name.endsWith(".json"));
+        if (metas == null) {
+            return;
+        }
+        for (File meta : metas) {
+            RecordedResponse recorded = mapper.readValue(meta, RecordedResponse.class);
+            recordedByKey.put(recorded.getKey(), meta);
+            recordedByPath.putIfAbsent(recorded.getPathKey(), meta);
+        }
+    }
+
+    private static boolean isText(String contentType) {
+        String type = contentType.toLowerCase();
+        return type.startsWith("text/") || type.contains("javascript") || type.contains("json") || type.contains("xml");
+    }
+
+    // The declared charset, else ISO-8859-1: it maps every byte to one char and back, and the URLs being
+    // rewritten are ASCII, so bodies in any ASCII-compatible encoding pass through unchanged
+    private static Charset charsetOf(String contentType) {
+        Matcher matcher = CHARSET.matcher(contentType);
+        if (matcher.find()) {
+            try {
+                return Charset.forName(matcher.group(1));
+            } catch (IllegalArgumentException e) {
+                logger.debug("Unknown charset in '{}', serving bytes as recorded", contentType);
+            }
+        }
+        return StandardCharsets.ISO_8859_1;
+    }
+
+    private static String withoutQuery(URI uri) {
+        return uri.getScheme() + "://" + uri.getRawAuthority() + uri.getRawPath();
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.automation.fixtures;
+
+import com.automation.utils.ExtentManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the base URL page objects navigate to. Live by default; -D&lt;site&gt;.base.url points a site at any
+ * server, and -Dfixtures.mode=record|replay routes it through an embedded {@link FixtureServer}.
+ */
+public class Fixtures {
+
+    private static final Logger logger = LoggerFactory.getLogger(Fixtures.class);
+    private static final String FIXTURES_DIR = System.getProperty("fixtures.dir", "target/fixtures/");
+    private static final Map<String, FixtureServer> servers = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(Fixtures::stopAll, "fixture-shutdown"));
+    }
+
+    private Fixtures() {
+    }
+
+    public static String baseUrl(String site, String liveUrl) {
+        String configured = System.getProperty(site + ".base.url");
+        if (configured != null && !configured.isBlank()) {
+            return stripTrailingSlash(configured.trim());
+        }
+        String mode = System.getProperty("fixtures.mode", "live").toLowerCase(Locale.ROOT);
+        if ("live".equals(mode)) {
+            return liveUrl;
+        }
+        FixtureServer.Mode serverMode = FixtureServer.Mode.valueOf(mode.toUpperCase(Locale.ROOT));
+        FixtureServer server = servers.computeIfAbsent(site,
+                s -> new FixtureServer(s, liveUrl, serverMode, new File(FIXTURES_DIR, s)));
+        String baseUrl = server.start();
+        logger.info("Using {} fixtures for {} at {}", serverMode, site, baseUrl);
+        return baseUrl;
+    }
+
+    public static void publishSummary() {
+        servers.forEach((site, server) -> ExtentManager.getInstance().setSystemInfo("Fixtures [" + site + "]",
+                server.getMode() + ", " + server.getHits() + " served, " + server.getMisses() + " missing"));
+    }
+
+    public static void stopAll() {
+        servers.values().forEach(FixtureServer::stop);
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,48 @@
+package com.automation.fixtures;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Metadata stored next to each recorded response body
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RecordedResponse {
+
+    private String key;
+    private String pathKey;
+    private int status;
+    private Map<String, String> headers = new LinkedHashMap<>();
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public String getPathKey() {
+        return pathKey;
+    }
+
+    public void setPathKey(String pathKey) {
+        this.pathKey = pathKey;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+}
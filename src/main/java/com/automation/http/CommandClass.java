@@ -0,0 +1,57 @@
+package com.automation.http;
+
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+
+import java.time.Duration;
+
+/**
+ * WebDriver commands grouped by how long the driver may legitimately take to answer them. Each class gets its
+ * own read timeout (http.timeout.&lt;class&gt;.seconds), so a hung quit or screenshot is noticed long before a
+ * slow page load would be.
+ */
+public enum CommandClass {
+    NEW_SESSION("new.session", 120),
+    NAVIGATION("navigation", 120),
+    FIND("find", 60),
+    SCRIPT("script", 60),
+    SCREENSHOT("screenshot", 30),
+    QUIT("quit", 30),
+    OTHER("command", 60);
+
+    private final Duration timeout;
+
+    CommandClass(String property, long defaultSeconds) {
+        this.timeout = Duration.ofSeconds(Long.parseLong(System.getProperty("http.timeout." + property + ".seconds",
+                String.valueOf(defaultSeconds))));
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    // Paths follow the W3C WebDriver endpoints, relative to the session's base URL
+    public static CommandClass of(HttpRequest request) {
+        String path = request.getUri();
+        HttpMethod method = request.getMethod();
+        if (method == HttpMethod.POST && path.endsWith("/session")) {
+            return NEW_SESSION;
+        }
+        if (method == HttpMethod.DELETE && path.matches(".*/session/[^/]+/?")) {
+            return QUIT;
+        }
+        if (path.endsWith("/url") || path.endsWith("/back") || path.endsWith("/forward") || path.endsWith("/refresh")) {
+            return method == HttpMethod.POST ? NAVIGATION : OTHER;
+        }
+        if (path.endsWith("/element") || path.endsWith("/elements")) {
+            return FIND;
+        }
+        if (path.contains("/execute/")) {
+            return SCRIPT;
+        }
+        if (path.endsWith("/screenshot")) {
+            return SCREENSHOT;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,118 @@
+package com.automation.http;
+
+import com.automation.utils.ExtentManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request counts, in-flight requests and connection reuse of the shared WebDriver HTTP client. The JDK client
+ * does not report which connection served a request, so reuse is tracked by replaying its HTTP/1.1 pool rules:
+ * a request takes an idle keep-alive connection to the same host and port if one is younger than the keep-alive
+ * timeout, otherwise it opens one; the connection goes back to the pool when the response has been read.
+ */
+public class HttpClientMetrics {
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final LongAccumulator peakInFlight = new LongAccumulator(Math::max, 0);
+    private static final LongAdder connectionsOpened = new LongAdder();
+    private static final LongAdder connectionsReused = new LongAdder();
+    private static final Map<CommandClass, ClassStats> byClass = new EnumMap<>(CommandClass.class);
+    // Release times of idle connections per host:port, most recently used first
+    private static final Map<String, Deque<Long>> idleConnections = new ConcurrentHashMap<>();
+
+    static {
+        for (CommandClass commandClass : CommandClass.values()) {
+            byClass.put(commandClass, new ClassStats());
+        }
+    }
+
+    private static class ClassStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    private HttpClientMetrics() {
+    }
+
+    public static int getInFlight() {
+        return inFlight.get();
+    }
+
+    public static long getConnectionsOpened() {
+        return connectionsOpened.sum();
+    }
+
+    public static long getConnectionsReused() {
+        return connectionsReused.sum();
+    }
+
+    static void started(String authority, long keepAliveNanos) {
+        peakInFlight.accumulate(inFlight.incrementAndGet());
+        Deque<Long> idle = idleConnections.computeIfAbsent(authority, a -> new ArrayDeque<>());
+        long now = System.nanoTime();
+        boolean reused;
+        synchronized (idle) {
+            idle.removeIf(released -> now - released > keepAliveNanos);
+            reused = idle.pollFirst() != null;
+        }
+        (reused ? connectionsReused : connectionsOpened).increment();
+    }
+
+    // keepConnection is false when the request failed or the server asked to close the connection
+    static void finished(String authority, CommandClass commandClass, long nanos, boolean failed, boolean timedOut,
+                         boolean keepConnection) {
+        inFlight.decrementAndGet();
+        if (keepConnection) {
+            Deque<Long> idle = idleConnections.get(authority);
+            synchronized (idle) {
+                idle.addFirst(System.nanoTime());
+            }
+        }
+        ClassStats stats = byClass.get(commandClass);
+        stats.requests.increment();
+        stats.totalNanos.add(nanos);
+        stats.maxNanos.accumulate(nanos);
+        if (failed) {
+            stats.failures.increment();
+        }
+        if (timedOut) {
+            stats.timeouts.increment();
+        }
+    }
+
+    public static void publishSummary() {
+        long opened = connectionsOpened.sum();
+        long reused = connectionsReused.sum();
+        if (opened + reused == 0) {
+            return;
+        }
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Command class", "Timeout s", "Requests", "Failed", "Timed out", "Avg ms", "Max ms"});
+        byClass.forEach((commandClass, stats) -> {
+            long requests = stats.requests.sum();
+            if (requests > 0) {
+                rows.add(new String[]{commandClass.name(), String.valueOf(commandClass.getTimeout().toSeconds()),
+                        String.valueOf(requests), String.valueOf(stats.failures.sum()), String.valueOf(stats.timeouts.sum()),
+                        String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.totalNanos.sum() / requests)),
+                        String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.maxNanos.get()))});
+            }
+        });
+        ExtentManager.addSummaryTable("WebDriver HTTP Client", String.format("Shared client for all sessions: "
+                        + "%d requests, peak %d in flight, %d connections opened, %.1f%% of requests on a reused connection",
+                opened + reused, peakInFlight.get(), opened, 100.0 * reused / (opened + reused)),
+                rows.toArray(new String[0][]));
+    }
+}
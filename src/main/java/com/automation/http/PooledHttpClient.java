@@ -0,0 +1,147 @@
+package com.automation.http;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.openqa.selenium.remote.http.jdk.JdkHttpClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One session's view of the shared JDK client: applies the session's filters, base URL and per-command-class
+ * timeouts, and records metrics. WebSockets (CDP, BiDi) are rare and long-lived, so they go through Selenium's
+ * own client.
+ */
+class PooledHttpClient implements HttpClient {
+
+    // The JDK client sets these itself and rejects requests that carry them
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private final java.net.http.HttpClient shared;
+    private final ClientConfig config;
+    private final HttpHandler handler;
+    private final long keepAliveNanos;
+    private HttpClient webSocketClient;
+
+    PooledHttpClient(java.net.http.HttpClient shared, ClientConfig config, long keepAliveNanos) {
+        this.shared = shared;
+        this.config = config;
+        this.keepAliveNanos = keepAliveNanos;
+        this.handler = config.filter().andFinally(this::send);
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest request) {
+        return handler.execute(request);
+    }
+
+    @Override
+    public synchronized WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+        if (webSocketClient == null) {
+            webSocketClient = new JdkHttpClient.Factory().createClient(config);
+        }
+        return webSocketClient.openSocket(request, listener);
+    }
+
+    @Override
+    public synchronized void close() {
+        // The shared client stays open for the other sessions
+        if (webSocketClient != null) {
+            webSocketClient.close();
+            webSocketClient = null;
+        }
+    }
+
+    private HttpResponse send(HttpRequest request) {
+        CommandClass commandClass = CommandClass.of(request);
+        Duration timeout = commandClass.getTimeout();
+        if (config.readTimeout() != null && config.readTimeout().compareTo(timeout) < 0) {
+            timeout = config.readTimeout();
+        }
+        URI uri = uri(request);
+        String authority = uri.getHost() + ":" + uri.getPort();
+        java.net.http.HttpRequest jdkRequest = toJdkRequest(request, uri, timeout);
+
+        long start = System.nanoTime();
+        HttpClientMetrics.started(authority, keepAliveNanos);
+        boolean failed = true;
+        boolean timedOut = false;
+        boolean keepConnection = false;
+        try {
+            java.net.http.HttpResponse<byte[]> response = shared.send(jdkRequest, java.net.http.HttpResponse.BodyHandlers.ofByteArray());
+            failed = false;
+            keepConnection = !response.headers().firstValue("Connection").map("close"::equalsIgnoreCase).orElse(false);
+            return toSeleniumResponse(response);
+        } catch (HttpTimeoutException e) {
+            timedOut = true;
+            throw new TimeoutException(String.format("No response to %s %s within the %s timeout of %d s",
+                    request.getMethod(), request.getUri(), commandClass, timeout.toSeconds()), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for " + request.getMethod() + " " + request.getUri(), e);
+        } finally {
+            HttpClientMetrics.finished(authority, commandClass, System.nanoTime() - start, failed, timedOut, keepConnection);
+        }
+    }
+
+    // Relative command paths are resolved against the session's base URL, which may carry a path such as /wd/hub
+    private URI uri(HttpRequest request) {
+        String path = request.getUri();
+        String url = path.startsWith("http://") || path.startsWith("https://")
+                ? path
+                : config.baseUri().toString().replaceAll("/$", "") + path;
+        List<String> query = new ArrayList<>();
+        for (String name : request.getQueryParameterNames()) {
+            for (String value : request.getQueryParameters(name)) {
+                query.add(URLEncoder.encode(name, StandardCharsets.UTF_8) + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8));
+            }
+        }
+        return URI.create(query.isEmpty() ? url : url + "?" + String.join("&", query));
+    }
+
+    private static java.net.http.HttpRequest toJdkRequest(HttpRequest request, URI uri, Duration timeout) {
+        java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(uri).timeout(timeout);
+        request.forEachHeader((name, value) -> {
+            if (!RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+                builder.header(name, value);
+            }
+        });
+        HttpMethod method = request.getMethod();
+        if (method == HttpMethod.GET || method == HttpMethod.DELETE) {
+            builder.method(method.name(), java.net.http.HttpRequest.BodyPublishers.noBody());
+        } else {
+            builder.method(method.name(), java.net.http.HttpRequest.BodyPublishers.ofByteArray(Contents.bytes(request.getContent())));
+        }
+        return builder.build();
+    }
+
+    private static HttpResponse toSeleniumResponse(java.net.http.HttpResponse<byte[]> response) {
+        HttpResponse seleniumResponse = new HttpResponse();
+        seleniumResponse.setStatus(response.statusCode());
+        response.headers().map().forEach((name, values) -> {
+            // HTTP/2 pseudo headers such as :status are not real headers
+            if (!name.startsWith(":")) {
+                values.forEach(value -> seleniumResponse.addHeader(name, value));
+            }
+        });
+        seleniumResponse.setContent(Contents.bytes(response.body()));
+        return seleniumResponse;
+    }
+}
@@ -0,0 +1,72 @@
+package com.automation.http;
+
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpClientName;
+import org.openqa.selenium.remote.http.jdk.JdkHttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selenium HTTP client factory that serves every session from one JDK HttpClient: one connection pool with
+ * long-lived keep-alive connections, one selector thread and one virtual-thread executor, instead of a client,
+ * selector and thread pool per session. Selenium finds it through ServiceLoader by the name below; install()
+ * selects it unless webdriver.http.factory is already set. Sessions that need a proxy, credentials or their own
+ * SSL context get Selenium's default client.
+ */
+@HttpClientName(PooledHttpClientFactory.NAME)
+public class PooledHttpClientFactory implements HttpClient.Factory {
+
+    public static final String NAME = "automation-pooled";
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledHttpClientFactory.class);
+    private static final long CONNECT_TIMEOUT_SECONDS = Long.parseLong(System.getProperty("http.connect.timeout.seconds", "10"));
+    private static final long KEEP_ALIVE_SECONDS = Long.parseLong(System.getProperty("http.keepalive.seconds", "300"));
+
+    private static volatile java.net.http.HttpClient shared;
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("http.client.shared", "true"));
+    }
+
+    public static void install() {
+        if (isEnabled() && System.getProperty("webdriver.http.factory") == null) {
+            System.setProperty("webdriver.http.factory", NAME);
+        }
+    }
+
+    @Override
+    public HttpClient createClient(ClientConfig config) {
+        if (config.proxy() != null || config.credentials() != null || config.sslContext() != null) {
+            return new JdkHttpClient.Factory().createClient(config);
+        }
+        return new PooledHttpClient(sharedClient(), config, TimeUnit.SECONDS.toNanos(KEEP_ALIVE_SECONDS));
+    }
+
+    private static java.net.http.HttpClient sharedClient() {
+        if (shared == null) {
+            synchronized (PooledHttpClientFactory.class) {
+                if (shared == null) {
+                    // Read once by the JDK's connection pool, so it has to be set before the first client is built
+                    if (System.getProperty("jdk.httpclient.keepalive.timeout") == null) {
+                        System.setProperty("jdk.httpclient.keepalive.timeout", String.valueOf(KEEP_ALIVE_SECONDS));
+                    }
+                    ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("webdriver-http-", 0).factory());
+                    shared = java.net.http.HttpClient.newBuilder()
+                            .version(java.net.http.HttpClient.Version.HTTP_1_1)
+                            .connectTimeout(java.time.Duration.ofSeconds(CONNECT_TIMEOUT_SECONDS))
+                            .followRedirects(java.net.http.HttpClient.Redirect.NORMAL)
+                            .executor(executor)
+                            .build();
+                    logger.info("Created shared WebDriver HTTP client (keep-alive {} s, connect timeout {} s)",
+                            KEEP_ALIVE_SECONDS, CONNECT_TIMEOUT_SECONDS);
+                }
+            }
+        }
+        return shared;
+    }
+}
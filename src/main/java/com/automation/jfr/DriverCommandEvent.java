@@ -0,0 +1,30 @@
+package com.automation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.automation.DriverCommand")
+@Label("Driver Command")
+@Category({"Selenium Automation"})
+@Description("A WebDriver or WebElement call, i.e. time the test thread was blocked on the browser")
+@StackTrace(false)
+public class DriverCommandEvent extends jdk.jfr.Event {
+
+    @Label("Test")
+    public String test;
+
+    @Label("Page Object")
+    public String pageObject;
+
+    @Label("Command")
+    public String command;
+
+    @Label("Locator")
+    public String locator;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,26 @@
+package com.automation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.automation.ReportWrite")
+@Label("Report Write")
+@Category({"Selenium Automation"})
+@Description("ExtentReports flush, screenshot attachment or summary table")
+@StackTrace(false)
+public class ReportWriteEvent extends jdk.jfr.Event {
+
+    @Label("Test")
+    public String test;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+}
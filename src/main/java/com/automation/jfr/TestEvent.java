@@ -0,0 +1,24 @@
+package com.automation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.automation.Test")
+@Label("Test")
+@Category({"Selenium Automation"})
+@Description("One test method from BaseTest setUp to tearDown, including driver startup and quit")
+@StackTrace(false)
+public class TestEvent extends jdk.jfr.Event {
+
+    @Label("Test")
+    public String test;
+
+    @Label("Browser")
+    public String browser;
+
+    @Label("Status")
+    public String status;
+}
@@ -0,0 +1,28 @@
+package com.automation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.automation.Wait")
+@Label("Explicit Wait")
+@Category({"Selenium Automation"})
+@Description("A BasePage explicit wait, with the condition polled and how often it was evaluated")
+public class WaitEvent extends jdk.jfr.Event {
+
+    @Label("Test")
+    public String test;
+
+    @Label("Page Object")
+    public String pageObject;
+
+    @Label("Condition")
+    public String condition;
+
+    @Label("Polls")
+    public int polls;
+
+    @Label("Timed Out")
+    public boolean timedOut;
+}
@@ -1,21 +1,46 @@
 package com.automation.listeners;
 
 import com.automation.base.BaseTest;
+import com.automation.retry.Flakiness;
+import com.automation.retry.RetryAnalyzer;
 import com.automation.utils.ExtentManager;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.IAnnotationTransformer;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
 
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, IAnnotationTransformer, IMethodInterceptor {
     
     private static final Logger logger = LoggerFactory.getLogger(TestListener.class);
     
+    // Every test gets RetryAnalyzer unless it declares its own; TestNG's "no analyzer" placeholder lives in org.testng
+    @Override
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        Class<? extends IRetryAnalyzer> declared = annotation.getRetryAnalyzerClass();
+        if (declared == null || declared.getName().startsWith("org.testng.")) {
+            annotation.setRetryAnalyzer(RetryAnalyzer.class);
+        }
+    }
+    
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        return Flakiness.quarantineLast(methods);
+    }
+    
     @Override
     public void onTestStart(ITestResult result) {
         String testName = result.getTestClass().getName() + "." + result.getMethod().getMethodName();
@@ -28,6 +53,7 @@ public class TestListener implements ITestListener {
         String testName = result.getTestClass().getName() + "." + result.getMethod().getMethodName();
         logger.info("Test passed: {}", testName);
         ExtentManager.logPass("Test passed: " + testName);
+        Flakiness.record(result);
     }
     
     @Override
@@ -35,6 +61,7 @@ public class TestListener implements ITestListener {
         String testName = result.getTestClass().getName() + "." + result.getMethod().getMethodName();
         logger.error("Test failed: {}", testName);
         ExtentManager.logFail("Test failed: " + testName);
+        Flakiness.record(result);
         
         // Capture screenshot on failure
         WebDriver driver = getDriverFromTest(result);
@@ -58,6 +85,7 @@ public class TestListener implements ITestListener {
         String testName = result.getTestClass().getName() + "." + result.getMethod().getMethodName();
         logger.warn("Test skipped: {}", testName);
         ExtentManager.logSkip("Test skipped: " + testName);
+        Flakiness.record(result);
         
         Throwable throwable = result.getThrowable();
         if (throwable != null) {
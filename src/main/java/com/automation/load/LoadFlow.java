@@ -0,0 +1,53 @@
+package com.automation.load;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A user journey expressed as named page-object steps. Every iteration of a virtual user creates a fresh
+ * page object on its session and runs the steps in order; a failing step ends that iteration.
+ */
+public class LoadFlow<P> {
+
+    public record Step<P>(String name, Consumer<P> action) {
+    }
+
+    private final String name;
+    private final Function<WebDriver, P> pageFactory;
+    private final List<Step<P>> steps = new ArrayList<>();
+
+    private LoadFlow(String name, Function<WebDriver, P> pageFactory) {
+        this.name = name;
+        this.pageFactory = pageFactory;
+    }
+
+    public static <P> LoadFlow<P> of(String name, Function<WebDriver, P> pageFactory) {
+        return new LoadFlow<>(name, pageFactory);
+    }
+
+    public LoadFlow<P> step(String stepName, Consumer<P> action) {
+        steps.add(new Step<>(stepName, action));
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public P newPage(WebDriver driver) {
+        return pageFactory.apply(driver);
+    }
+
+    public List<Step<P>> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    public List<String> getStepNames() {
+        return steps.stream().map(Step::name).toList();
+    }
+}
@@ -0,0 +1,58 @@
+package com.automation.load;
+
+import com.automation.pages.AmazonPage;
+import com.automation.pages.GooglePage;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Flows selectable with -Dload.flow; the search term comes from -Dload.search.term
+public class LoadFlows {
+
+    private static final Map<String, Supplier<LoadFlow<?>>> FLOWS = Map.of(
+            "amazon-search-to-cart", LoadFlows::amazonSearchToCart,
+            "amazon-search", LoadFlows::amazonSearch,
+            "google-search", LoadFlows::googleSearch);
+
+    private LoadFlows() {
+    }
+
+    public static LoadFlow<?> byName(String name) {
+        Supplier<LoadFlow<?>> flow = FLOWS.get(name);
+        if (flow == null) {
+            throw new IllegalArgumentException("Unknown load flow: '" + name + "'. Available: " + FLOWS.keySet());
+        }
+        return flow.get();
+    }
+
+    private static String searchTerm() {
+        return System.getProperty("load.search.term", "laptop");
+    }
+
+    // Each step ends with a read that waits for the next page, so step time covers the full transition
+    static LoadFlow<AmazonPage> amazonSearchToCart() {
+        String term = searchTerm();
+        return LoadFlow.of("amazon-search-to-cart", AmazonPage::new)
+                .step("home", AmazonPage::navigateToAmazon)
+                .step("search", page -> page.search(term).getProductCount())
+                .step("clickProduct", page -> {
+                    page.clickProduct(0);
+                    page.getProductTitle();
+                })
+                .step("addToCart", page -> page.addToCart().getCartCount());
+    }
+
+    static LoadFlow<AmazonPage> amazonSearch() {
+        String term = searchTerm();
+        return LoadFlow.of("amazon-search", AmazonPage::new)
+                .step("home", AmazonPage::navigateToAmazon)
+                .step("search", page -> page.search(term).getProductCount());
+    }
+
+    static LoadFlow<GooglePage> googleSearch() {
+        String term = searchTerm();
+        return LoadFlow.of("google-search", GooglePage::new)
+                .step("home", GooglePage::navigateToGoogle)
+                .step("search", page -> page.search(term).getSearchResultsCount());
+    }
+}
@@ -0,0 +1,223 @@
+package com.automation.load;
+
+import com.automation.base.DriverFactory;
+import com.automation.process.ProcessRegistry;
+import com.automation.utils.ExtentManager;
+import com.automation.utils.TestContext;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a page-object flow with N concurrent virtual users (closed model: each user repeats the flow, with
+ * think time between iterations, until the duration is over). Users start evenly over the ramp-up period.
+ *
+ * mvn -Pload test-compile exec:java -Dload.flow=amazon-search-to-cart -Dload.users=10 -Dload.duration.seconds=300
+ *
+ * Base URLs resolve like in the functional suites, so -Dfixtures.mode=replay or -Damazon.base.url=... apply.
+ */
+public class LoadRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadRunner.class);
+
+    private final LoadFlow<?> flow;
+    private final int users;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final Duration thinkTime;
+    private final String browser;
+    private final boolean headless;
+    private final PageLoadStrategy loadStrategy;
+    private final LoadStats stats;
+    private final AtomicInteger activeUsers = new AtomicInteger();
+    private volatile long deadlineNanos;
+
+    public LoadRunner(LoadFlow<?> flow, int users, Duration rampUp, Duration duration, Duration thinkTime,
+                      String browser, boolean headless, PageLoadStrategy loadStrategy) {
+        if (users < 1) {
+            throw new IllegalArgumentException("At least one virtual user is required");
+        }
+        if (rampUp.compareTo(duration) >= 0) {
+            throw new IllegalArgumentException("Ramp-up (" + rampUp + ") must be shorter than the duration (" + duration + ")");
+        }
+        this.flow = flow;
+        this.users = users;
+        this.rampUp = rampUp;
+        this.duration = duration;
+        this.thinkTime = thinkTime;
+        this.browser = browser;
+        this.headless = headless;
+        this.loadStrategy = loadStrategy;
+        this.stats = new LoadStats(flow.getStepNames());
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadRunner runner = new LoadRunner(
+                LoadFlows.byName(System.getProperty("load.flow", "amazon-search-to-cart")),
+                Integer.parseInt(System.getProperty("load.users", "5")),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("load.rampup.seconds", "10"))),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("load.duration.seconds", "60"))),
+                Duration.ofMillis(Long.parseLong(System.getProperty("load.think.ms", "1000"))),
+                System.getProperty("browser", "chrome"),
+                Boolean.parseBoolean(System.getProperty("headless", "true")),
+                DriverFactory.loadStrategy(System.getProperty("page.load.strategy", "eager")));
+        LoadStats stats = runner.run();
+
+        double maxErrorRate = Double.parseDouble(System.getProperty("load.max.error.rate", "0.05"));
+        double errorRate = stats.errorRate(LoadStats.ITERATION);
+        if (errorRate > maxErrorRate) {
+            logger.error("Iteration error rate {}% exceeds the allowed {}%", String.format("%.2f", 100 * errorRate), 100 * maxErrorRate);
+            System.exit(1);
+        }
+    }
+
+    public LoadStats run() throws InterruptedException {
+        // Page objects log every action to the report; with many users that is only memory and lock contention
+        ExtentManager.setEnabled(false);
+        logger.info("Starting load run: flow {} with {} users, ramp-up {} s, duration {} s, think time {} ms on {}",
+                flow.getName(), users, rampUp.toSeconds(), duration.toSeconds(), thinkTime.toMillis(), browser);
+
+        AtomicInteger userCounter = new AtomicInteger();
+        ExecutorService userPool = Executors.newFixedThreadPool(users, r -> new Thread(r, "vu-" + userCounter.incrementAndGet()));
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "load-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        stats.started();
+        deadlineNanos = System.nanoTime() + duration.toNanos();
+        long rampStepNanos = rampUp.toNanos() / users;
+        for (int i = 0; i < users; i++) {
+            int user = i + 1;
+            long startDelayNanos = i * rampStepNanos;
+            userPool.execute(() -> runUser(user, startDelayNanos));
+        }
+        progress.scheduleAtFixedRate(() -> logger.info("{} active users, {} iterations, {} failed",
+                        activeUsers.get(), stats.completed(LoadStats.ITERATION), stats.errors(LoadStats.ITERATION)),
+                10, 10, TimeUnit.SECONDS);
+
+        userPool.shutdown();
+        // Users stop starting iterations at the deadline; give the last ones time to finish and quit their browsers
+        if (!userPool.awaitTermination(duration.toSeconds() + 300, TimeUnit.SECONDS)) {
+            logger.warn("Virtual users did not finish in time, interrupting");
+            userPool.shutdownNow();
+        }
+        progress.shutdownNow();
+        stats.finished();
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("users", users);
+        config.put("rampUpSeconds", rampUp.toSeconds());
+        config.put("durationSeconds", duration.toSeconds());
+        config.put("thinkTimeMs", thinkTime.toMillis());
+        config.put("browser", browser);
+        config.put("headless", headless);
+        stats.publish(flow.getName(), config);
+        return stats;
+    }
+
+    private void runUser(int user, long startDelayNanos) {
+        TestContext.setTestName("load:" + flow.getName() + ":vu" + user);
+        WebDriver driver = null;
+        activeUsers.incrementAndGet();
+        try {
+            TimeUnit.NANOSECONDS.sleep(startDelayNanos);
+            while (System.nanoTime() < deadlineNanos) {
+                if (driver == null) {
+                    driver = startSession();
+                    if (driver == null) {
+                        // Back off instead of hammering the driver binary when sessions cannot be created
+                        TimeUnit.SECONDS.sleep(5);
+                        continue;
+                    }
+                }
+                if (!runIteration(flow, driver)) {
+                    driver = replaceIfDead(driver);
+                }
+                if (!thinkTime.isZero()) {
+                    TimeUnit.MILLISECONDS.sleep(thinkTime.toMillis());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            activeUsers.decrementAndGet();
+            quit(driver);
+            TestContext.clear();
+        }
+    }
+
+    private WebDriver startSession() {
+        long start = System.nanoTime();
+        try {
+            WebDriver driver = DriverFactory.create(browser, headless, loadStrategy);
+            stats.recordSuccess(LoadStats.SESSION_START, System.nanoTime() - start);
+            return driver;
+        } catch (Exception e) {
+            logger.warn("Failed to start browser session: {}", e.getMessage());
+            stats.recordError(LoadStats.SESSION_START, e);
+            return null;
+        }
+    }
+
+    // Runs every step in order and records each one; returns false when a step failed. Assertion errors, e.g. a
+    // hard performance budget, count as failed steps so the virtual user carries on
+    private <P> boolean runIteration(LoadFlow<P> loadFlow, WebDriver driver) {
+        P page = loadFlow.newPage(driver);
+        long iterationStart = System.nanoTime();
+        for (LoadFlow.Step<P> step : loadFlow.getSteps()) {
+            long start = System.nanoTime();
+            try {
+                step.action().accept(page);
+                stats.recordSuccess(step.name(), System.nanoTime() - start);
+            } catch (VirtualMachineError e) {
+                throw e;
+            } catch (Throwable e) {
+                logger.debug("Step {} failed: {}", step.name(), e.getMessage());
+                stats.recordError(step.name(), e);
+                stats.recordError(LoadStats.ITERATION, e);
+                return false;
+            }
+        }
+        stats.recordSuccess(LoadStats.ITERATION, System.nanoTime() - iterationStart);
+        return true;
+    }
+
+    // A failed step usually leaves the session usable; only a dead one is replaced
+    private WebDriver replaceIfDead(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return driver;
+        } catch (NoSuchSessionException e) {
+            logger.warn("Browser session lost, starting a new one: {}", e.getMessage());
+        } catch (Exception e) {
+            logger.warn("Browser session unresponsive, starting a new one: {}", e.getMessage());
+        }
+        quit(driver);
+        return null;
+    }
+
+    private void quit(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        try {
+            ProcessRegistry.release(driver);
+            driver.quit();
+        } catch (Exception e) {
+            logger.debug("Error quitting virtual user session: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.automation.load;
+
+import com.automation.utils.ExtentManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency (microseconds), throughput and errors per flow step, plus whole iterations and session starts.
+ */
+public class LoadStats {
+
+    public static final String ITERATION = "(iteration)";
+    public static final String SESSION_START = "(session start)";
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadStats.class);
+    private static final String LOAD_PATH = "reports/load/";
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, StepStats> steps = new LinkedHashMap<>();
+    private long startNanos;
+    private long endNanos;
+
+    private static class StepStats {
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+        private final Map<String, LongAdder> errorTypes = new ConcurrentHashMap<>();
+    }
+
+    // Steps are registered up front so the map is only read while virtual users are running
+    public LoadStats(List<String> stepNames) {
+        steps.put(SESSION_START, new StepStats());
+        stepNames.forEach(name -> steps.put(name, new StepStats()));
+        steps.put(ITERATION, new StepStats());
+    }
+
+    public void started() {
+        startNanos = System.nanoTime();
+    }
+
+    public void finished() {
+        endNanos = System.nanoTime();
+    }
+
+    public void recordSuccess(String step, long durationNanos) {
+        steps.get(step).histogram.recordValue(Math.max(1, durationNanos / 1000));
+    }
+
+    public void recordError(String step, Throwable error) {
+        StepStats stats = steps.get(step);
+        stats.errors.increment();
+        stats.errorTypes.computeIfAbsent(error.getClass().getSimpleName(), type -> new LongAdder()).increment();
+    }
+
+    public long completed(String step) {
+        return steps.get(step).histogram.getTotalCount();
+    }
+
+    public long errors(String step) {
+        return steps.get(step).errors.sum();
+    }
+
+    public double errorRate(String step) {
+        long errors = errors(step);
+        long total = completed(step) + errors;
+        return total == 0 ? 0 : errors / (double) total;
+    }
+
+    public List<String[]> rows() {
+        double seconds = Math.max(1e-9, (endNanos - startNanos) / 1e9);
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Step", "OK", "Errors", "Error %", "Per second", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "Max ms"});
+        steps.forEach((name, stats) -> {
+            Histogram histogram = stats.histogram.copy();
+            rows.add(new String[]{
+                    name,
+                    String.valueOf(histogram.getTotalCount()),
+                    String.valueOf(stats.errors.sum()),
+                    String.format("%.2f", 100 * errorRate(name)),
+                    String.format("%.2f", histogram.getTotalCount() / seconds),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getMaxValue())
+            });
+        });
+        return rows;
+    }
+
+    // Console table, JSON for trend tooling and a standalone ExtentReports summary
+    public void publish(String flowName, Map<String, Object> config) {
+        List<String[]> rows = rows();
+        StringBuilder table = new StringBuilder("\n");
+        for (String[] row : rows) {
+            table.append(String.format("%-22s %8s %7s %8s %11s %9s %9s %9s %9s %9s%n", (Object[]) row));
+        }
+        logger.info("Load results for {} {}:{}", flowName, config, table);
+
+        writeJson(flowName, config, rows);
+
+        ExtentManager.setEnabled(true);
+        config.forEach((key, value) -> ExtentManager.getInstance().setSystemInfo("Load " + key, String.valueOf(value)));
+        ExtentManager.addSummaryTable("Load: " + flowName, "Per-step latency, throughput and errors",
+                rows.toArray(new String[0][]));
+        List<String[]> errorRows = new ArrayList<>();
+        errorRows.add(new String[]{"Step", "Error type", "Count"});
+        steps.forEach((name, stats) -> stats.errorTypes.forEach((type, count) ->
+                errorRows.add(new String[]{name, type, String.valueOf(count.sum())})));
+        if (errorRows.size() > 1) {
+            ExtentManager.addSummaryTable("Load errors: " + flowName, "Exceptions by step", errorRows.toArray(new String[0][]));
+        }
+        ExtentManager.flush();
+    }
+
+    private void writeJson(String flowName, Map<String, Object> config, List<String[]> rows) {
+        File dir = new File(LOAD_PATH);
+        if (!dir.exists() && !dir.mkdirs()) {
+            logger.warn("Failed to create load report directory: {}", LOAD_PATH);
+        }
+        String[] header = rows.get(0);
+        List<Map<String, String>> stepRows = new ArrayList<>();
+        for (String[] row : rows.subList(1, rows.size())) {
+            Map<String, String> stepRow = new LinkedHashMap<>();
+            for (int i = 0; i < header.length; i++) {
+                stepRow.put(header[i], row[i]);
+            }
+            stepRows.add(stepRow);
+        }
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("flow", flowName);
+        document.put("config", config);
+        document.put("durationSeconds", (endNanos - startNanos) / 1_000_000_000L);
+        document.put("steps", stepRows);
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+        File file = new File(dir, "load-" + flowName + "-" + timestamp + ".json");
+        try {
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, document);
+            logger.info("Load results written to {}", file.getPath());
+        } catch (IOException e) {
+            logger.warn("Failed to write load results: {}", e.getMessage());
+        }
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1f", micros / 1000.0);
+    }
+}
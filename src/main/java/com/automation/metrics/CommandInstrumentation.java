@@ -0,0 +1,311 @@
+package com.automation.metrics;
+
+import com.automation.deadline.Deadline;
+import com.automation.jfr.DriverCommandEvent;
+import com.automation.utils.TestContext;
+import com.automation.watchdog.Watchdog;
+import jdk.jfr.EventType;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorator wrapped around every driver by BaseTest. Times each WebDriver/WebElement command and tags element
+ * commands with the locator that found the element. While a JFR recording has com.automation.DriverCommand
+ * enabled, each call is also emitted as an event. Commands issued after the test deadline has passed fail before
+ * reaching the browser. Commands that may change the page (anything but reads) advance the session's DOM
+ * generation, which tells DOM snapshots they are stale.
+ * <p>
+ * The decorated objects are JDK proxies over the original's interfaces, not Selenium's EventFiringDecorator,
+ * which generates a new class for every element it returns and costs milliseconds per lookup (see
+ * CommandInstrumentationBenchmark). Code that needs the concrete driver class unwraps it through WrapsDriver.
+ */
+public final class CommandInstrumentation {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommandInstrumentation.class);
+
+    // Local calls that only hand out decorated helper objects and never reach the browser
+    private static final Set<String> UNTIMED = Set.of("manage", "navigate", "switchTo", "timeouts", "window");
+
+    // Driver and element commands that only read the page
+    private static final Set<String> READS = Set.of("findElement", "findElements", "getText", "getAttribute",
+            "getDomAttribute", "getDomProperty", "getCssValue", "getAriaRole", "getAccessibleName", "getTagName",
+            "isDisplayed", "isEnabled", "isSelected", "getRect", "getLocation", "getSize", "getShadowRoot",
+            "getTitle", "getCurrentUrl", "getPageSource", "getWindowHandle", "getWindowHandles", "getScreenshotAs",
+            "getSessionId", "getCapabilities");
+
+    public static final long UNTRACKED = -1;
+
+    // Checked before allocating a JFR event so nothing is created unless a recording has it enabled
+    private static final EventType COMMAND_EVENT = EventType.getEventType(DriverCommandEvent.class);
+
+    // Public interfaces a proxy of the class implements, plus the Wraps* interface that leads back to the original
+    private static final ClassValue<Class<?>[]> PROXY_INTERFACES = new ClassValue<>() {
+        @Override
+        protected Class<?>[] computeValue(Class<?> type) {
+            Set<Class<?>> interfaces = new LinkedHashSet<>();
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Class<?> candidate : c.getInterfaces()) {
+                    if (Modifier.isPublic(candidate.getModifiers())) {
+                        interfaces.add(candidate);
+                    }
+                }
+            }
+            if (WebDriver.class.isAssignableFrom(type)) {
+                interfaces.add(WrapsDriver.class);
+            }
+            if (WebElement.class.isAssignableFrom(type)) {
+                interfaces.add(WrapsElement.class);
+            }
+            return interfaces.toArray(new Class<?>[0]);
+        }
+    };
+
+    private CommandInstrumentation() {
+    }
+
+    public static WebDriver decorate(WebDriver driver) {
+        Session session = new Session();
+        session.driver = (WebDriver) proxy(driver, session, null);
+        return session.driver;
+    }
+
+    // Changes whenever a command that may have changed the driver's page was issued; equal values mean the page
+    // has not been touched in between. UNTRACKED for drivers that were not decorated, whose commands nobody sees.
+    public static long domGeneration(WebDriver driver) {
+        for (Object current = driver; current != null; ) {
+            if (unwrap(current) != current) {
+                return ((Handler) Proxy.getInvocationHandler(current)).session.domGeneration.get();
+            }
+            current = current instanceof WrapsDriver wrapper ? wrapper.getWrappedDriver() : null;
+        }
+        return UNTRACKED;
+    }
+
+    private static Object proxy(Object target, Session session, String locator) {
+        Class<?>[] interfaces = PROXY_INTERFACES.get(target.getClass());
+        try {
+            return Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces,
+                    new Handler(target, session, locator));
+        } catch (IllegalArgumentException e) {
+            // Interfaces with clashing signatures or from another class loader; the object stays uninstrumented
+            logger.warn("Cannot instrument {}: {}", target.getClass().getName(), e.getMessage());
+            return target;
+        }
+    }
+
+    private static final class Session {
+        private final AtomicLong domGeneration = new AtomicLong();
+        private WebDriver driver;
+    }
+
+    private static final class Handler implements InvocationHandler {
+        private final Object target;
+        private final Session session;
+        // Locator that found this element, "-" for elements from elsewhere, e.g. scripts; null for non-elements
+        private final String locator;
+
+        private Handler(Object target, Session session, String locator) {
+            this.target = target;
+            this.session = session;
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (name) {
+                    case "equals" -> target.equals(unwrap(args[0]));
+                    case "hashCode" -> target.hashCode();
+                    default -> target.toString();
+                };
+            }
+            if (method.getDeclaringClass() == WrapsDriver.class) {
+                return target instanceof WebDriver ? target : session.driver;
+            }
+            if (method.getDeclaringClass() == WrapsElement.class) {
+                return target;
+            }
+            if (UNTIMED.contains(name)) {
+                return wrap(invokeTarget(method, args), args, name);
+            }
+            Deadline.check("driver command", name);
+            return timed(method, args);
+        }
+
+        private Object timed(Method method, Object[] args) throws Throwable {
+            String command = commandName(target, method);
+            recordDomChange(method);
+            DriverCommandEvent event = null;
+            if (COMMAND_EVENT.isEnabled()) {
+                event = new DriverCommandEvent();
+                event.begin();
+            }
+            TimeLedger.beginCommand();
+            Watchdog.touch(command);
+            long start = System.nanoTime();
+            Object result = null;
+            boolean failed = true;
+            try {
+                result = invokeTarget(method, args);
+                failed = false;
+            } finally {
+                // Again after the command, so a snapshot taken while it ran is not mistaken for a fresh one
+                recordDomChange(method);
+                finish(command, locatorOf(args), System.nanoTime() - start, failed, result, event);
+            }
+            return wrap(result, args, method.getName());
+        }
+
+        private Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, unwrapAll(args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private void recordDomChange(Method method) {
+            if (READS.contains(method.getName())) {
+                return;
+            }
+            if (target instanceof WebDriver || target instanceof WebElement || target instanceof WebDriver.Navigation
+                    || target instanceof WebDriver.TargetLocator || target instanceof Alert) {
+                session.domGeneration.incrementAndGet();
+            }
+        }
+
+        private String locatorOf(Object[] args) {
+            if (args != null && args.length > 0 && args[0] instanceof By by) {
+                return by.toString();
+            }
+            return locator != null ? locator : "-";
+        }
+
+        // Elements and helper objects stay decorated; the undecorated driver is handed back as the decorated one
+        private Object wrap(Object result, Object[] args, String name) {
+            if (result == null) {
+                return null;
+            }
+            if (result instanceof WebElement element) {
+                return proxy(element, session, foundBy(args, name));
+            }
+            if (result instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof WebElement) {
+                String foundBy = foundBy(args, name);
+                List<Object> wrapped = new ArrayList<>(list.size());
+                for (Object item : list) {
+                    wrapped.add(item instanceof WebElement element ? proxy(element, session, foundBy) : item);
+                }
+                return wrapped;
+            }
+            if (result instanceof WebDriver) {
+                return result == unwrap(session.driver) ? session.driver : result;
+            }
+            if (result instanceof WebDriver.Navigation || result instanceof WebDriver.Options
+                    || result instanceof WebDriver.TargetLocator || result instanceof WebDriver.Timeouts
+                    || result instanceof WebDriver.Window || result instanceof Alert
+                    || result instanceof SearchContext) {
+                return proxy(result, session, null);
+            }
+            return result;
+        }
+
+        private static String foundBy(Object[] args, String name) {
+            return name.startsWith("findElement") && args != null && args.length > 0 && args[0] instanceof By by
+                    ? by.toString()
+                    : "-";
+        }
+    }
+
+    private static void finish(String command, String locator, long duration, boolean failed, Object result,
+                               DriverCommandEvent event) {
+        if (CommandMetrics.isEnabled()) {
+            CommandMetrics.record(new CommandMetrics.CommandKey(command, locator, TestContext.getPageObject(),
+                    TestContext.getTestName()), duration, failed);
+        }
+        TimeLedger.endCommand(command, failed, result);
+        Watchdog.touch(command);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.test = TestContext.getTestName();
+                event.pageObject = TestContext.getPageObject();
+                event.command = command;
+                event.locator = locator;
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private static Object unwrap(Object value) {
+        return value != null && Proxy.isProxyClass(value.getClass())
+                && Proxy.getInvocationHandler(value) instanceof Handler handler ? handler.target : value;
+    }
+
+    // Decorated elements passed back in, e.g. as script arguments, reach the original as the original elements
+    private static Object[] unwrapAll(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        Object[] unwrapped = args;
+        for (int i = 0; i < args.length; i++) {
+            Object value = args[i] instanceof Object[] array ? unwrapAll(array)
+                    : args[i] instanceof List<?> list ? unwrapList(list)
+                    : unwrap(args[i]);
+            if (value != args[i]) {
+                if (unwrapped == args) {
+                    unwrapped = args.clone();
+                }
+                unwrapped[i] = value;
+            }
+        }
+        return unwrapped;
+    }
+
+    private static List<?> unwrapList(List<?> list) {
+        for (Object item : list) {
+            if (unwrap(item) != item) {
+                return list.stream().map(CommandInstrumentation::unwrap).toList();
+            }
+        }
+        return list;
+    }
+
+    private static String commandName(Object target, Method method) {
+        if (target instanceof WebDriver || target instanceof WebElement) {
+            return method.getName();
+        }
+        if (target instanceof WebDriver.Navigation) {
+            return "navigate." + method.getName();
+        }
+        if (target instanceof WebDriver.TargetLocator) {
+            return "switchTo." + method.getName();
+        }
+        if (target instanceof Alert) {
+            return "alert." + method.getName();
+        }
+        if (target instanceof SearchContext) {
+            return "shadowRoot." + method.getName();
+        }
+        return "manage." + method.getName();
+    }
+}
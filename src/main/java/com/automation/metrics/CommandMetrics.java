@@ -0,0 +1,154 @@
+package com.automation.metrics;
+
+import com.automation.utils.ExtentManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-command latency histograms (microseconds) tagged with command, locator, page object and test. The report
+ * tables merge the tests; the JSON export keeps one row per test. -Dmetrics.commands.per.test=false drops the test
+ * tag so the number of histograms no longer grows with the suite. Recording is one map lookup plus a lock-free
+ * histogram update; CommandInstrumentationBenchmark in benchmarks/ measures the cost of the whole decorator per
+ * command.
+ */
+public class CommandMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommandMetrics.class);
+    private static final String METRICS_PATH = "reports/metrics/";
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final int TOP_LOCATORS = 15;
+    private static final boolean PER_TEST = Boolean.parseBoolean(System.getProperty("metrics.commands.per.test", "true"));
+
+    private static final Map<CommandKey, Entry> entries = new ConcurrentHashMap<>();
+
+    public record CommandKey(String command, String locator, String pageObject, String test) {
+    }
+
+    private static class Entry {
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    private CommandMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("metrics.commands", "true"));
+    }
+
+    public static void record(CommandKey key, long durationNanos, boolean failed) {
+        if (!PER_TEST && !"-".equals(key.test())) {
+            key = new CommandKey(key.command(), key.locator(), key.pageObject(), "-");
+        }
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+        entry.histogram.recordValue(Math.max(1, durationNanos / 1000));
+        if (failed) {
+            entry.errors.increment();
+        }
+    }
+
+    // Percentile table per command and for the slowest locators in the report, full breakdown as JSON
+    public static void publish() {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Map<String, Histogram> byCommand = new TreeMap<>();
+        Map<String, Long> errorsByCommand = new TreeMap<>();
+        Map<String, Histogram> byLocator = new LinkedHashMap<>();
+        entries.forEach((key, entry) -> {
+            byCommand.computeIfAbsent(key.command(), c -> new Histogram(SIGNIFICANT_DIGITS)).add(entry.histogram);
+            errorsByCommand.merge(key.command(), entry.errors.sum(), Long::sum);
+            if (!"-".equals(key.locator())) {
+                String locatorKey = key.command() + " | " + key.locator() + " | " + key.pageObject();
+                byLocator.computeIfAbsent(locatorKey, c -> new Histogram(SIGNIFICANT_DIGITS)).add(entry.histogram);
+            }
+        });
+
+        List<String[]> commandRows = new ArrayList<>();
+        commandRows.add(new String[]{"Command", "Count", "Errors", "p50 ms", "p90 ms", "p99 ms", "Max ms", "Total s"});
+        byCommand.forEach((command, histogram) -> commandRows.add(row(command, histogram, errorsByCommand.get(command))));
+        ExtentManager.addSummaryTable("Driver Command Latency", "Per-command latency percentiles for this run",
+                commandRows.toArray(new String[0][]));
+
+        List<String[]> locatorRows = new ArrayList<>();
+        locatorRows.add(new String[]{"Command | Locator | Page", "Count", "Errors", "p50 ms", "p90 ms", "p99 ms", "Max ms", "Total s"});
+        byLocator.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<String, Histogram> e) -> totalMicros(e.getValue())).reversed())
+                .limit(TOP_LOCATORS)
+                .forEach(e -> locatorRows.add(row(e.getKey(), e.getValue(), null)));
+        ExtentManager.addSummaryTable("Slowest Locators", "Locators with the highest total command time",
+                locatorRows.toArray(new String[0][]));
+
+        writeMetricsFile();
+    }
+
+    private static void writeMetricsFile() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        entries.forEach((key, entry) -> {
+            Histogram histogram = entry.histogram.copy();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("command", key.command());
+            row.put("locator", key.locator());
+            row.put("pageObject", key.pageObject());
+            row.put("test", key.test());
+            row.put("count", histogram.getTotalCount());
+            row.put("errors", entry.errors.sum());
+            row.put("minMicros", histogram.getMinValue());
+            row.put("p50Micros", histogram.getValueAtPercentile(50));
+            row.put("p90Micros", histogram.getValueAtPercentile(90));
+            row.put("p99Micros", histogram.getValueAtPercentile(99));
+            row.put("maxMicros", histogram.getMaxValue());
+            row.put("meanMicros", Math.round(histogram.getMean()));
+            rows.add(row);
+        });
+        File dir = new File(METRICS_PATH);
+        if (!dir.exists() && !dir.mkdirs()) {
+            logger.warn("Failed to create metrics directory: {}", METRICS_PATH);
+        }
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+        File file = new File(dir, "command-latency-" + timestamp + ".json");
+        try {
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, rows);
+            logger.info("Driver command metrics written to {}", file.getPath());
+        } catch (IOException e) {
+            logger.warn("Failed to write driver command metrics: {}", e.getMessage());
+        }
+    }
+
+    private static String[] row(String name, Histogram histogram, Long errors) {
+        return new String[]{
+                name,
+                String.valueOf(histogram.getTotalCount()),
+                errors != null ? String.valueOf(errors) : "-",
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getMaxValue()),
+                String.format("%.2f", totalMicros(histogram) / 1_000_000.0)
+        };
+    }
+
+    private static double totalMicros(Histogram histogram) {
+        return histogram.getMean() * histogram.getTotalCount();
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1f", micros / 1000.0);
+    }
+}
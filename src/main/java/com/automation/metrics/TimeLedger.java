@@ -0,0 +1,279 @@
+package com.automation.metrics;
+
+import com.automation.utils.ExtentManager;
+import com.aventstack.extentreports.ExtentTest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Splits each test's wall time into categories. Framework code brackets its work with begin/end; nested
+ * segments are charged exclusively, so a screenshot taken during teardown counts as screenshot, not teardown.
+ * Driver commands issued inside a segment belong to it, except lookups that sat out the implicit wait.
+ */
+public class TimeLedger {
+
+    public enum Category {
+        BROWSER_PERMIT("Waiting for a browser permit", "#74b9ff"),
+        DRIVER_STARTUP("Driver startup", "#6c5ce7"),
+        NAVIGATION("Navigation", "#0984e3"),
+        EXPLICIT_WAIT("Explicit waits", "#fdcb6e"),
+        IMPLICIT_WAIT("Implicit waits", "#e17055"),
+        SLEEP("Sleeps", "#d63031"),
+        BROWSER("Other driver commands", "#00b894"),
+        REPORT_IO("Report I/O", "#a29bfe"),
+        SCREENSHOT("Screenshots", "#fd79a8"),
+        TEARDOWN("Teardown", "#636e72"),
+        TEST_CODE("Test and framework code", "#b2bec3");
+
+        private final String label;
+        private final String color;
+
+        Category(String label, String color) {
+            this.label = label;
+            this.color = color;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(TimeLedger.class);
+    private static final Category[] CATEGORIES = Category.values();
+
+    private static final ThreadLocal<Ledger> current = new ThreadLocal<>();
+    private static final LongAdder[] suiteTotals = new LongAdder[CATEGORIES.length];
+    private static final LongAdder suiteWall = new LongAdder();
+    private static final LongAdder suiteTests = new LongAdder();
+
+    static {
+        for (int i = 0; i < suiteTotals.length; i++) {
+            suiteTotals[i] = new LongAdder();
+        }
+    }
+
+    private TimeLedger() {
+    }
+
+    // Opens a ledger for the test running on this thread; nothing is recorded on threads without one
+    public static void start(String test) {
+        current.set(new Ledger(test, System::nanoTime));
+    }
+
+    public static void begin(Category category) {
+        Ledger ledger = current.get();
+        if (ledger != null) {
+            ledger.push(category);
+        }
+    }
+
+    public static void end() {
+        Ledger ledger = current.get();
+        if (ledger != null) {
+            ledger.pop(null, false);
+        }
+    }
+
+    static void beginCommand() {
+        begin(Category.BROWSER);
+    }
+
+    // Lookups that failed or came back empty polled for the whole implicit wait, so they are charged even inside a segment
+    static void endCommand(String command, boolean failed, Object result) {
+        Ledger ledger = current.get();
+        if (ledger == null) {
+            return;
+        }
+        boolean lookup = command.equals("findElement") || command.equals("findElements");
+        if (lookup && (failed || (result instanceof List<?> list && list.isEmpty()))) {
+            ledger.pop(Category.IMPLICIT_WAIT, false);
+            return;
+        }
+        Category category = switch (command) {
+            case "get", "navigate.to", "navigate.back", "navigate.forward", "navigate.refresh" -> Category.NAVIGATION;
+            case "getScreenshotAs" -> Category.SCREENSHOT;
+            default -> Category.BROWSER;
+        };
+        ledger.pop(category, true);
+    }
+
+    // Closes the ledger, adds it to the suite totals and renders it as a stacked bar on the current test
+    public static void finish() {
+        Ledger ledger = current.get();
+        if (ledger == null) {
+            return;
+        }
+        current.remove();
+        long[] nanos = ledger.close();
+        long wall = Arrays.stream(nanos).sum();
+        for (int i = 0; i < nanos.length; i++) {
+            suiteTotals[i].add(nanos[i]);
+        }
+        suiteWall.add(wall);
+        suiteTests.increment();
+        logger.info("Time ledger for {}: {}", ledger.test, describe(nanos));
+        ExtentManager.logHtml("Time breakdown (" + wall / 1_000_000 + " ms)" + stackedBar(nanos));
+    }
+
+    // Drops the ledger without recording it, for a test whose setup failed
+    public static void discard() {
+        current.remove();
+    }
+
+    // Where the running test's time has gone so far, largest category first, e.g. for a deadline failure
+    public static String summarizeCurrent() {
+        Ledger ledger = current.get();
+        if (ledger == null) {
+            return "";
+        }
+        long[] nanos = ledger.snapshot();
+        long wall = Math.max(1, Arrays.stream(nanos).sum());
+        StringBuilder text = new StringBuilder();
+        Arrays.stream(CATEGORIES)
+                .filter(category -> nanos[category.ordinal()] >= 1_000_000)
+                .sorted((a, b) -> Long.compare(nanos[b.ordinal()], nanos[a.ordinal()]))
+                .forEach(category -> text.append(text.isEmpty() ? "" : ", ")
+                        .append(String.format("%s %.1f s (%.0f%%)", category.label,
+                                nanos[category.ordinal()] / 1e9, 100.0 * nanos[category.ordinal()] / wall)));
+        return text.toString();
+    }
+
+    // Suite-wide split, largest category first, so the most rewarding optimisation is at the top
+    public static void publish() {
+        long tests = suiteTests.sum();
+        long wall = suiteWall.sum();
+        if (tests == 0 || wall == 0) {
+            return;
+        }
+        long[] nanos = new long[CATEGORIES.length];
+        for (int i = 0; i < nanos.length; i++) {
+            nanos[i] = suiteTotals[i].sum();
+        }
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Category", "Total s", "Share", "Avg per test ms"});
+        Arrays.stream(CATEGORIES)
+                .sorted((a, b) -> Long.compare(nanos[b.ordinal()], nanos[a.ordinal()]))
+                .forEach(category -> {
+                    long value = nanos[category.ordinal()];
+                    rows.add(new String[]{
+                            category.label,
+                            String.format("%.2f", value / 1e9),
+                            String.format("%.1f%%", 100.0 * value / wall),
+                            String.valueOf(value / tests / 1_000_000)
+                    });
+                });
+        ExtentTest summary = ExtentManager.addSummaryTable("Time Breakdown",
+                "Where " + tests + " tests spent " + String.format("%.1f", wall / 1e9) + " s of wall time",
+                rows.toArray(new String[0][]));
+        summary.info(stackedBar(nanos));
+    }
+
+    private static String stackedBar(long[] nanos) {
+        long wall = Math.max(1, Arrays.stream(nanos).sum());
+        StringBuilder bar = new StringBuilder(
+                "<div style='display:flex;width:100%;height:18px;margin:6px 0;border-radius:3px;overflow:hidden'>");
+        StringBuilder legend = new StringBuilder("<div style='font-size:11px;line-height:1.8'>");
+        for (Category category : CATEGORIES) {
+            long value = nanos[category.ordinal()];
+            if (value == 0) {
+                continue;
+            }
+            double share = 100.0 * value / wall;
+            String label = String.format("%s: %d ms (%.1f%%)", category.label, value / 1_000_000, share);
+            bar.append(String.format("<div title='%s' style='width:%.3f%%;background:%s'></div>", label, share, category.color));
+            legend.append(String.format("<span style='margin-right:12px;white-space:nowrap'>"
+                    + "<span style='display:inline-block;width:10px;height:10px;margin-right:4px;background:%s'></span>%s</span>",
+                    category.color, label));
+        }
+        return bar.append("</div>").append(legend).append("</div>").toString();
+    }
+
+    private static String describe(long[] nanos) {
+        StringBuilder text = new StringBuilder();
+        for (Category category : CATEGORIES) {
+            if (nanos[category.ordinal()] > 0) {
+                text.append(category.label).append('=').append(nanos[category.ordinal()] / 1_000_000).append("ms ");
+            }
+        }
+        return text.toString().trim();
+    }
+
+    // Package-private with its clock passed in, so the accounting can be tested without timing real work
+    static final class Ledger {
+        private final String test;
+        private final LongSupplier clock;
+        private final long start;
+        private final long[] totals = new long[CATEGORIES.length];
+        private Category[] categories = new Category[8];
+        private long[] starts = new long[8];
+        private long[] children = new long[8];
+        private int depth;
+
+        Ledger(String test, LongSupplier clock) {
+            this.test = test;
+            this.clock = clock;
+            this.start = clock.getAsLong();
+        }
+
+        void push(Category category) {
+            if (depth == starts.length) {
+                categories = Arrays.copyOf(categories, depth * 2);
+                starts = Arrays.copyOf(starts, depth * 2);
+                children = Arrays.copyOf(children, depth * 2);
+            }
+            categories[depth] = category;
+            starts[depth] = clock.getAsLong();
+            children[depth] = 0;
+            depth++;
+        }
+
+        // With absorbIntoParent the enclosing segment keeps the time, as if this one had never been opened
+        void pop(Category override, boolean absorbIntoParent) {
+            if (depth == 0) {
+                return;
+            }
+            depth--;
+            if (absorbIntoParent && depth > 0) {
+                return;
+            }
+            long elapsed = clock.getAsLong() - starts[depth];
+            Category category = override != null ? override : categories[depth];
+            totals[category.ordinal()] += Math.max(0, elapsed - children[depth]);
+            if (depth > 0) {
+                children[depth - 1] += elapsed;
+            }
+        }
+
+        // Same accounting as close() without closing anything: open segments are charged up to now
+        long[] snapshot() {
+            long[] copy = totals.clone();
+            long now = clock.getAsLong();
+            long innerElapsed = 0;
+            for (int i = depth - 1; i >= 0; i--) {
+                long elapsed = now - starts[i];
+                copy[categories[i].ordinal()] += Math.max(0, elapsed - children[i] - innerElapsed);
+                innerElapsed = elapsed;
+            }
+            long attributed = Arrays.stream(copy).sum();
+            copy[Category.TEST_CODE.ordinal()] += Math.max(0, now - start - attributed);
+            return copy;
+        }
+
+        // Unclosed segments are charged up to now; whatever no segment covered is test and framework code
+        long[] close() {
+            while (depth > 0) {
+                pop(null, false);
+            }
+            long wall = clock.getAsLong() - start;
+            long attributed = Arrays.stream(totals).sum();
+            totals[Category.TEST_CODE.ordinal()] += Math.max(0, wall - attributed);
+            return totals;
+        }
+    }
+}
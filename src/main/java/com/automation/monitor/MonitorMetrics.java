@@ -0,0 +1,259 @@
+package com.automation.monitor;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Fixed-size time series for the synthetic monitor, rendered in OpenMetrics text format. Series are keyed by
+ * test (and step), so memory depends on the selected classes, not on how long the monitor has been running.
+ * Histogram buckets and result counters keep the latest exemplar, which carries the trace id of its run.
+ */
+public class MonitorMetrics {
+
+    private static final double[] BUCKETS = {0.5, 1, 2.5, 5, 10, 20, 30, 60, 120, 300};
+
+    private final Clock clock;
+
+    private final HistogramFamily testDuration = new HistogramFamily("synthetic_test_duration_seconds",
+            "Test method duration.", "test");
+    private final CounterFamily testResults = new CounterFamily("synthetic_test_results",
+            "Test outcomes by result.", "test", "result");
+    private final GaugeFamily testUp = new GaugeFamily("synthetic_test_up",
+            "1 if the last run of the test passed, 0 otherwise.", "test");
+    private final GaugeFamily testLastRun = new GaugeFamily("synthetic_test_last_run_timestamp_seconds",
+            "When the test last finished.", "test");
+    private final HistogramFamily stepDuration = new HistogramFamily("synthetic_step_duration_seconds",
+            "Step duration.", "test", "step");
+    private final CounterFamily stepResults = new CounterFamily("synthetic_step_results",
+            "Step outcomes by result.", "test", "step", "result");
+    private final CounterFamily monitorRuns = new CounterFamily("synthetic_monitor_runs",
+            "Completed monitor runs.");
+    private final CounterFamily skippedRuns = new CounterFamily("synthetic_monitor_skipped_runs",
+            "Scheduled runs skipped because the previous run was still going.");
+    private final GaugeFamily lastRunDuration = new GaugeFamily("synthetic_monitor_last_run_duration_seconds",
+            "Duration of the last monitor run.");
+
+    public MonitorMetrics() {
+        this(Clock.systemUTC());
+    }
+
+    // Exemplar and last-run timestamps come from the clock, so tests can render a fixed state
+    MonitorMetrics(Clock clock) {
+        this.clock = clock;
+    }
+
+    public synchronized void recordTest(String test, double seconds, String result, String traceId) {
+        double now = clock.millis() / 1000.0;
+        testDuration.observe(new String[]{test}, seconds, traceId, now);
+        testResults.increment(new String[]{test, result}, traceId, now);
+        testUp.set(new String[]{test}, "pass".equals(result) ? 1 : 0);
+        testLastRun.set(new String[]{test}, now);
+    }
+
+    public synchronized void recordStep(String test, String step, double seconds, String result, String traceId) {
+        double now = clock.millis() / 1000.0;
+        stepDuration.observe(new String[]{test, step}, seconds, traceId, now);
+        stepResults.increment(new String[]{test, step, result}, traceId, now);
+    }
+
+    public synchronized void recordRun(double seconds, String traceId) {
+        double now = clock.millis() / 1000.0;
+        monitorRuns.increment(new String[0], traceId, now);
+        lastRunDuration.set(new String[0], seconds);
+    }
+
+    public synchronized void recordSkippedRuns(long count) {
+        if (count > 0) {
+            skippedRuns.add(new String[0], count);
+        }
+    }
+
+    public synchronized String export() {
+        StringBuilder out = new StringBuilder();
+        monitorRuns.render(out);
+        skippedRuns.render(out);
+        lastRunDuration.render(out);
+        testDuration.render(out);
+        testResults.render(out);
+        testUp.render(out);
+        testLastRun.render(out);
+        stepDuration.render(out);
+        stepResults.render(out);
+        out.append("# EOF\n");
+        return out.toString();
+    }
+
+    private record Exemplar(String traceId, double value, double timestamp) {
+        void render(StringBuilder out) {
+            out.append(" # {trace_id=\"").append(traceId).append("\"} ")
+                    .append(number(value)).append(' ').append(String.format(Locale.ROOT, "%.3f", timestamp));
+        }
+    }
+
+    private abstract static class Family<S> {
+        final String name;
+        final String help;
+        final String[] labelNames;
+        final Map<String, S> series = new LinkedHashMap<>();
+        final Map<String, String[]> labelValues = new LinkedHashMap<>();
+
+        Family(String name, String help, String... labelNames) {
+            this.name = name;
+            this.help = help;
+            this.labelNames = labelNames;
+        }
+
+        S series(String[] values, Supplier<S> factory) {
+            String key = String.join("\u0000", values);
+            labelValues.putIfAbsent(key, values);
+            return series.computeIfAbsent(key, k -> factory.get());
+        }
+
+        void header(StringBuilder out, String type) {
+            out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+            if (name.endsWith("_seconds")) {
+                out.append("# UNIT ").append(name).append(" seconds\n");
+            }
+            out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        }
+
+        String labels(String key, String extraName, String extraValue) {
+            String[] values = labelValues.get(key);
+            StringBuilder labels = new StringBuilder();
+            for (int i = 0; i < labelNames.length; i++) {
+                appendLabel(labels, labelNames[i], values[i]);
+            }
+            if (extraName != null) {
+                appendLabel(labels, extraName, extraValue);
+            }
+            return labels.isEmpty() ? "" : "{" + labels + "}";
+        }
+
+        private static void appendLabel(StringBuilder labels, String name, String value) {
+            if (!labels.isEmpty()) {
+                labels.append(',');
+            }
+            labels.append(name).append("=\"").append(escape(value)).append('"');
+        }
+
+        abstract void render(StringBuilder out);
+    }
+
+    private static final class HistogramFamily extends Family<HistogramFamily.Series> {
+        static final class Series {
+            final long[] buckets = new long[BUCKETS.length + 1];
+            final Exemplar[] exemplars = new Exemplar[BUCKETS.length + 1];
+            long count;
+            double sum;
+        }
+
+        HistogramFamily(String name, String help, String... labelNames) {
+            super(name, help, labelNames);
+        }
+
+        void observe(String[] values, double seconds, String traceId, double timestamp) {
+            Series s = series(values, Series::new);
+            int bucket = 0;
+            while (bucket < BUCKETS.length && seconds > BUCKETS[bucket]) {
+                bucket++;
+            }
+            s.buckets[bucket]++;
+            s.exemplars[bucket] = new Exemplar(traceId, seconds, timestamp);
+            s.count++;
+            s.sum += seconds;
+        }
+
+        @Override
+        void render(StringBuilder out) {
+            if (series.isEmpty()) {
+                return;
+            }
+            header(out, "histogram");
+            series.forEach((key, s) -> {
+                long cumulative = 0;
+                for (int i = 0; i <= BUCKETS.length; i++) {
+                    cumulative += s.buckets[i];
+                    // Canonical bounds, e.g. 0.5 rather than 0.500000, so le values match across exporters
+                    String le = i < BUCKETS.length ? Double.toString(BUCKETS[i]) : "+Inf";
+                    out.append(name).append("_bucket").append(labels(key, "le", le)).append(' ').append(cumulative);
+                    if (s.exemplars[i] != null) {
+                        s.exemplars[i].render(out);
+                    }
+                    out.append('\n');
+                }
+                out.append(name).append("_count").append(labels(key, null, null)).append(' ').append(s.count).append('\n');
+                out.append(name).append("_sum").append(labels(key, null, null)).append(' ').append(number(s.sum)).append('\n');
+            });
+        }
+    }
+
+    private static final class CounterFamily extends Family<CounterFamily.Series> {
+        static final class Series {
+            long value;
+            Exemplar exemplar;
+        }
+
+        CounterFamily(String name, String help, String... labelNames) {
+            super(name, help, labelNames);
+        }
+
+        void increment(String[] values, String traceId, double timestamp) {
+            Series s = series(values, Series::new);
+            s.value++;
+            s.exemplar = new Exemplar(traceId, 1, timestamp);
+        }
+
+        void add(String[] values, long amount) {
+            series(values, Series::new).value += amount;
+        }
+
+        @Override
+        void render(StringBuilder out) {
+            header(out, "counter");
+            if (series.isEmpty() && labelNames.length == 0) {
+                out.append(name).append("_total 0\n");
+                return;
+            }
+            series.forEach((key, s) -> {
+                out.append(name).append("_total").append(labels(key, null, null)).append(' ').append(s.value);
+                if (s.exemplar != null) {
+                    s.exemplar.render(out);
+                }
+                out.append('\n');
+            });
+        }
+    }
+
+    private static final class GaugeFamily extends Family<double[]> {
+        GaugeFamily(String name, String help, String... labelNames) {
+            super(name, help, labelNames);
+        }
+
+        void set(String[] values, double value) {
+            series(values, () -> new double[1])[0] = value;
+        }
+
+        @Override
+        void render(StringBuilder out) {
+            if (series.isEmpty()) {
+                return;
+            }
+            header(out, "gauge");
+            series.forEach((key, value) ->
+                    out.append(name).append(labels(key, null, null)).append(' ').append(number(value[0])).append('\n'));
+        }
+    }
+
+    private static String number(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15
+                ? String.format(Locale.ROOT, "%.1f", value)
+                : String.format(Locale.ROOT, "%.6f", value);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,146 @@
+package com.automation.monitor;
+
+import com.automation.steps.StepResult;
+import com.automation.steps.Steps;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One scheduled run: records every test result into the monitor's series and writes a trace file named after
+ * the run's trace id, which is what the exported exemplars point at.
+ */
+public class MonitorRun implements ITestListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(MonitorRun.class);
+    static final String TRACES_PATH = "reports/monitor/traces/";
+
+    private final MonitorMetrics metrics;
+    private final String traceId = randomHex(16);
+    private final long startMillis = System.currentTimeMillis();
+    private final List<Map<String, Object>> spans = new ArrayList<>();
+
+    public MonitorRun(MonitorMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, "pass");
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, "fail");
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        record(result, "skip");
+    }
+
+    @Override
+    public void onTestFailedWithTimeout(ITestResult result) {
+        record(result, "fail");
+    }
+
+    public synchronized List<Map<String, Object>> getSpans() {
+        return new ArrayList<>(spans);
+    }
+
+    private synchronized void record(ITestResult result, String outcome) {
+        String test = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        double seconds = Math.max(0, result.getEndMillis() - result.getStartMillis()) / 1000.0;
+        metrics.recordTest(test, seconds, outcome, traceId);
+        List<Map<String, Object>> stepSpans = new ArrayList<>();
+        if (result.getAttribute(Steps.RESULT_ATTRIBUTE) instanceof List<?> steps) {
+            for (Object value : steps) {
+                StepResult step = (StepResult) value;
+                String stepOutcome = step.passed() ? "pass" : "fail";
+                metrics.recordStep(test, step.name(), step.durationMs() / 1000.0, stepOutcome, traceId);
+                Map<String, Object> stepSpan = new LinkedHashMap<>();
+                stepSpan.put("step", step.name());
+                stepSpan.put("result", stepOutcome);
+                stepSpan.put("start", Instant.ofEpochMilli(step.startMillis()).toString());
+                stepSpan.put("durationMs", step.durationMs());
+                stepSpan.put("slow", step.slow());
+                if (step.error() != null) {
+                    stepSpan.put("error", step.error());
+                }
+                stepSpans.add(stepSpan);
+            }
+        }
+
+        Map<String, Object> span = new LinkedHashMap<>();
+        span.put("spanId", randomHex(8));
+        span.put("test", test);
+        span.put("result", outcome);
+        span.put("start", Instant.ofEpochMilli(result.getStartMillis()).toString());
+        span.put("durationMs", result.getEndMillis() - result.getStartMillis());
+        if (result.getThrowable() != null) {
+            span.put("error", result.getThrowable().getClass().getSimpleName() + ": " + result.getThrowable().getMessage());
+        }
+        span.put("steps", stepSpans);
+        spans.add(span);
+    }
+
+    // Only the newest traces are kept so a monitor running for weeks does not fill the disk
+    public void writeTrace(long durationMillis, int keep) {
+        File dir = new File(TRACES_PATH);
+        if (!dir.exists() && !dir.mkdirs()) {
+            logger.warn("Failed to create trace directory: {}", TRACES_PATH);
+            return;
+        }
+        Map<String, Object> trace = new LinkedHashMap<>();
+        trace.put("traceId", traceId);
+        trace.put("start", Instant.ofEpochMilli(startMillis).toString());
+        trace.put("durationMs", durationMillis);
+        trace.put("spans", getSpans());
+        try {
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(new File(dir, traceId + ".json"), trace);
+        } catch (IOException e) {
+            logger.warn("Failed to write trace {}: {}", traceId, e.getMessage());
+        }
+
+        File[] files = dir.listFiles((d, name) -> name.endsWith(".json"));
+        if (files == null || files.length <= keep) {
+            return;
+        }
+        Map<File, Long> modified = new HashMap<>();
+        for (File file : files) {
+            modified.put(file, file.lastModified());
+        }
+        Arrays.sort(files, Comparator.comparing(modified::get));
+        for (int i = 0; i < files.length - keep; i++) {
+            if (!files[i].delete()) {
+                logger.debug("Failed to delete old trace {}", files[i].getName());
+            }
+        }
+    }
+
+    private static String randomHex(int bytes) {
+        StringBuilder hex = new StringBuilder(bytes * 2);
+        for (int i = 0; i < bytes; i++) {
+            hex.append(String.format("%02x", ThreadLocalRandom.current().nextInt(256)));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,177 @@
+package com.automation.monitor;
+
+import com.automation.utils.ExtentManager;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.TestNG;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs selected test classes on a fixed schedule as health checks, reusing browser sessions from the driver
+ * pool, and exports the results in OpenMetrics text format to a file and optionally a /metrics endpoint.
+ *
+ * mvn -Pmonitor test-compile exec:java -Dmonitor.interval.seconds=300 -Dmonitor.port=9464
+ *
+ * Runs happen one after another on a single thread. A run that overruns its interval makes the monitor skip
+ * the ticks it missed (counted in synthetic_monitor_skipped_runs_total) instead of starting runs back to back.
+ */
+public class SyntheticMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticMonitor.class);
+    private static final String DEFAULT_CLASSES =
+            "com.automation.tests.amazon.AmazonOrderTest,com.automation.tests.google.GoogleLoginTest";
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private final Class<?>[] testClasses;
+    private final Duration interval;
+    private final long maxRuns;
+    private final Path outputFile;
+    private final int tracesToKeep;
+    private final MonitorMetrics metrics = new MonitorMetrics();
+
+    public SyntheticMonitor(Class<?>[] testClasses, Duration interval, long maxRuns, Path outputFile, int tracesToKeep) {
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("Monitor interval must be positive: " + interval);
+        }
+        this.testClasses = testClasses;
+        this.interval = interval;
+        this.maxRuns = maxRuns;
+        this.outputFile = outputFile;
+        this.tracesToKeep = tracesToKeep;
+    }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        // Keep sessions between runs and skip the per-test HTML report, which would otherwise grow forever
+        if (System.getProperty("driver.pool") == null) {
+            System.setProperty("driver.pool", "true");
+        }
+        ExtentManager.setEnabled(false);
+
+        SyntheticMonitor monitor = new SyntheticMonitor(
+                loadClasses(System.getProperty("monitor.classes", DEFAULT_CLASSES)),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("monitor.interval.seconds", "300"))),
+                Long.parseLong(System.getProperty("monitor.runs", "0")),
+                Path.of(System.getProperty("monitor.output", "reports/monitor/metrics.txt")),
+                Integer.parseInt(System.getProperty("monitor.traces.keep", "200")));
+
+        int port = Integer.parseInt(System.getProperty("monitor.port", "0"));
+        HttpServer server = port > 0 ? monitor.startEndpoint(port) : null;
+        try {
+            monitor.run();
+        } finally {
+            if (server != null) {
+                server.stop(0);
+            }
+        }
+    }
+
+    public MonitorMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void run() throws InterruptedException {
+        logger.info("Synthetic monitor running {} classes every {} s", testClasses.length, interval.toSeconds());
+        long intervalNanos = interval.toNanos();
+        long nextStart = System.nanoTime();
+        long runs = 0;
+        while (maxRuns == 0 || runs < maxRuns) {
+            long wait = nextStart - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            runOnce();
+            runs++;
+
+            nextStart += intervalNanos;
+            long skipped = 0;
+            long now = System.nanoTime();
+            while (nextStart <= now) {
+                nextStart += intervalNanos;
+                skipped++;
+            }
+            if (skipped > 0) {
+                logger.warn("Run took longer than the {} s interval, skipping {} scheduled runs", interval.toSeconds(), skipped);
+                metrics.recordSkippedRuns(skipped);
+            }
+            export();
+        }
+    }
+
+    private void runOnce() {
+        MonitorRun run = new MonitorRun(metrics);
+        long start = System.nanoTime();
+        TestNG testng = new TestNG(false);
+        testng.setTestClasses(testClasses);
+        testng.setVerbose(0);
+        testng.addListener(run);
+        try {
+            testng.run();
+        } catch (Exception e) {
+            logger.error("Monitor run {} failed to execute: {}", run.getTraceId(), e.getMessage(), e);
+        }
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        metrics.recordRun(durationMillis / 1000.0, run.getTraceId());
+        run.writeTrace(durationMillis, tracesToKeep);
+        long failed = run.getSpans().stream().filter(span -> !"pass".equals(span.get("result"))).count();
+        logger.info("Monitor run {} finished in {} ms: {} tests, {} not passed",
+                run.getTraceId(), durationMillis, run.getSpans().size(), failed);
+    }
+
+    // Written to a temp file and moved so a collector never reads a half-written exposition
+    private void export() {
+        try {
+            Path dir = outputFile.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path temp = Files.createTempFile(dir, "metrics", ".tmp");
+            Files.writeString(temp, metrics.export(), StandardCharsets.UTF_8);
+            Files.move(temp, outputFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to write monitor metrics to {}: {}", outputFile, e.getMessage());
+        }
+    }
+
+    private HttpServer startEndpoint(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/metrics", exchange -> {
+            byte[] body = metrics.export().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        logger.info("Serving monitor metrics on http://localhost:{}/metrics", port);
+        return server;
+    }
+
+    private static Class<?>[] loadClasses(String names) {
+        List<Class<?>> classes = new ArrayList<>();
+        for (String name : names.split(",")) {
+            if (name.isBlank()) {
+                continue;
+            }
+            try {
+                classes.add(Class.forName(name.trim()));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalArgumentException("Monitor test class not found: " + name.trim(), e);
+            }
+        }
+        if (classes.isEmpty()) {
+            throw new IllegalArgumentException("No monitor classes configured in monitor.classes");
+        }
+        return classes.toArray(new Class<?>[0]);
+    }
+}
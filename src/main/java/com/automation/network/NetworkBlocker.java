@@ -0,0 +1,152 @@
+package com.automation.network;
+
+import com.automation.utils.ExtentManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class NetworkBlocker {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkBlocker.class);
+    private static final String STATS_PATH = "reports/network/";
+    private static final String STATS_FILE = STATS_PATH + "network-stats.csv";
+
+    // Sums transfer sizes loaded so far from Resource Timing; cross-origin entries without Timing-Allow-Origin report 0 bytes
+    private static final String PAGE_LOAD_SCRIPT =
+            "var nav = performance.getEntriesByType('navigation')[0];" +
+            "var bytes = nav ? nav.transferSize : 0;" +
+            "var resources = performance.getEntriesByType('resource');" +
+            "for (var i = 0; i < resources.length; i++) { bytes += resources[i].transferSize || 0; }" +
+            "return [bytes, resources.length];";
+
+    private static final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    // Sessions that currently have blocked patterns, so navigations without a profile only pay for a clear when needed
+    private static final Set<WebDriver> blockingSessions = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+
+    private NetworkBlocker() {
+    }
+
+    public static boolean isBlockingEnabled() {
+        return Boolean.parseBoolean(System.getProperty("network.blocking", "true"));
+    }
+
+    public static void apply(WebDriver driver, NetworkProfile profile) {
+        if (!(driver instanceof HasCdp cdp)) {
+            logger.warn("Network profile '{}' not applied: {} does not support CDP", profile.getName(), driver.getClass().getSimpleName());
+            return;
+        }
+        // An empty list clears any patterns a previous page object left behind on this session
+        List<String> patterns = isBlockingEnabled() ? profile.getAllBlockedPatterns() : List.of();
+        try {
+            cdp.executeCdpCommand("Network.enable", Map.of());
+            cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", patterns));
+            if (patterns.isEmpty()) {
+                blockingSessions.remove(driver);
+            } else {
+                blockingSessions.add(driver);
+            }
+            logger.info("Applied network profile {} with {} blocked patterns (blocking {})",
+                    profile, patterns.size(), isBlockingEnabled() ? "on" : "off");
+        } catch (Exception e) {
+            logger.warn("Failed to apply network profile '{}': {}", profile.getName(), e.getMessage());
+            ExtentManager.logWarning("Failed to apply network profile '" + profile.getName() + "': " + e.getMessage());
+        }
+    }
+
+    // Called when navigating from a page object without a profile, so it does not inherit the previous site's blocked URLs
+    public static void clear(WebDriver driver) {
+        if (!blockingSessions.remove(driver) || !(driver instanceof HasCdp cdp)) {
+            return;
+        }
+        try {
+            cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", List.of()));
+            logger.info("Cleared blocked URL patterns");
+        } catch (Exception e) {
+            logger.warn("Failed to clear blocked URL patterns: {}", e.getMessage());
+            ExtentManager.logWarning("Failed to clear blocked URL patterns: " + e.getMessage());
+        }
+    }
+
+    public static void recordPageLoad(WebDriver driver, NetworkProfile profile, String url, long timeToInteractiveMs) {
+        try {
+            List<?> result = (List<?>) ((JavascriptExecutor) driver).executeScript(PAGE_LOAD_SCRIPT);
+            long bytes = ((Number) result.get(0)).longValue();
+            long resourceCount = ((Number) result.get(1)).longValue();
+
+            String key = profile.getName() + "|" + (isBlockingEnabled() ? "on" : "off");
+            stats.computeIfAbsent(key, k -> new Stats()).add(bytes, timeToInteractiveMs);
+
+            String message = String.format("Network profile '%s' (blocking %s): %d resources, %.1f KB transferred, time to interactive %d ms",
+                    profile.getName(), isBlockingEnabled() ? "on" : "off", resourceCount, bytes / 1024.0, timeToInteractiveMs);
+            logger.info("{} for {}", message, url);
+            ExtentManager.logInfo(message);
+        } catch (Exception e) {
+            logger.warn("Failed to collect page load metrics for {}: {}", url, e.getMessage());
+        }
+    }
+
+    // Adds the per-profile averages to the report and appends them to a CSV so blocked and unblocked runs can be compared
+    public static void publishSummary() {
+        if (stats.isEmpty()) {
+            return;
+        }
+        File statsDir = new File(STATS_PATH);
+        if (!statsDir.exists() && !statsDir.mkdirs()) {
+            logger.warn("Failed to create network stats directory: {}", STATS_PATH);
+        }
+        boolean writeHeader = !new File(STATS_FILE).exists();
+        try (PrintWriter writer = new PrintWriter(new FileWriter(STATS_FILE, true))) {
+            if (writeHeader) {
+                writer.println("timestamp,profile,blocking,navigations,avg_bytes,avg_tti_ms");
+            }
+            String timestamp = LocalDateTime.now().toString();
+            stats.forEach((key, value) -> {
+                String[] parts = key.split("\\|");
+                String summary = String.format("%d navigations, avg %.1f KB, avg time to interactive %d ms",
+                        value.count.sum(), value.averageBytes() / 1024.0, value.averageTimeToInteractiveMs());
+                ExtentManager.getInstance().setSystemInfo("Network [" + parts[0] + ", blocking " + parts[1] + "]", summary);
+                writer.printf("%s,%s,%s,%d,%d,%d%n", timestamp, parts[0], parts[1],
+                        value.count.sum(), value.averageBytes(), value.averageTimeToInteractiveMs());
+            });
+        } catch (IOException e) {
+            logger.warn("Failed to write network stats to {}: {}", STATS_FILE, e.getMessage());
+        }
+    }
+
+    private static class Stats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder timeToInteractiveMs = new LongAdder();
+
+        void add(long transferred, long timeToInteractive) {
+            count.increment();
+            bytes.add(transferred);
+            timeToInteractiveMs.add(timeToInteractive);
+        }
+
+        long averageBytes() {
+            long n = count.sum();
+            return n == 0 ? 0 : bytes.sum() / n;
+        }
+
+        long averageTimeToInteractiveMs() {
+            long n = count.sum();
+            return n == 0 ? 0 : timeToInteractiveMs.sum() / n;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.automation.network;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Per-site set of URL patterns and resource types that are blocked while a page object navigates.
+ * Defaults are declared by the page object and can be extended from the command line, e.g.
+ * -Dnetwork.profile.amazon.block.urls=*fonts*,*beacon* -Dnetwork.profile.amazon.block.types=IMAGE,FONT
+ */
+public class NetworkProfile {
+
+    public enum ResourceType {
+        IMAGE("png", "jpg", "jpeg", "gif", "webp", "svg", "ico", "avif"),
+        FONT("woff", "woff2", "ttf", "otf", "eot"),
+        MEDIA("mp4", "webm", "m3u8", "mp3", "ogg"),
+        STYLESHEET("css"),
+        SCRIPT("js");
+
+        private final List<String> urlPatterns;
+
+        // Each extension is anchored at the end of the path or before the query, so js does not also block .json or .jsp
+        ResourceType(String... extensions) {
+            List<String> patterns = new ArrayList<>();
+            for (String extension : extensions) {
+                patterns.add("*." + extension);
+                patterns.add("*." + extension + "?*");
+            }
+            this.urlPatterns = List.copyOf(patterns);
+        }
+
+        // Network.setBlockedURLs only understands URL patterns, so resource types are mapped to file extensions
+        public List<String> getUrlPatterns() {
+            return urlPatterns;
+        }
+    }
+
+    private final String name;
+    private final List<String> blockedUrlPatterns;
+    private final Set<ResourceType> blockedResourceTypes;
+
+    public NetworkProfile(String name, List<String> blockedUrlPatterns, Set<ResourceType> blockedResourceTypes) {
+        this.name = name;
+        this.blockedUrlPatterns = Collections.unmodifiableList(new ArrayList<>(blockedUrlPatterns));
+        this.blockedResourceTypes = blockedResourceTypes.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(blockedResourceTypes));
+    }
+
+    /**
+     * Builds the profile for a site, merging the page object defaults with any
+     * network.profile.&lt;site&gt;.block.urls / .block.types system properties.
+     */
+    public static NetworkProfile forSite(String site, List<String> defaultUrlPatterns, Set<ResourceType> defaultResourceTypes) {
+        List<String> urlPatterns = new ArrayList<>(defaultUrlPatterns);
+        urlPatterns.addAll(splitProperty("network.profile." + site + ".block.urls"));
+
+        Set<ResourceType> resourceTypes = defaultResourceTypes.isEmpty()
+                ? EnumSet.noneOf(ResourceType.class)
+                : EnumSet.copyOf(defaultResourceTypes);
+        String typesProperty = System.getProperty("network.profile." + site + ".block.types");
+        if (typesProperty != null) {
+            // An explicit list replaces the defaults so resource types can also be switched off
+            resourceTypes.clear();
+            for (String type : splitProperty("network.profile." + site + ".block.types")) {
+                resourceTypes.add(ResourceType.valueOf(type.toUpperCase(Locale.ROOT)));
+            }
+        }
+        return new NetworkProfile(site, urlPatterns, resourceTypes);
+    }
+
+    private static List<String> splitProperty(String key) {
+        String value = System.getProperty(key, "");
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getBlockedUrlPatterns() {
+        return blockedUrlPatterns;
+    }
+
+    public Set<ResourceType> getBlockedResourceTypes() {
+        return blockedResourceTypes;
+    }
+
+    // All patterns handed to the browser: explicit URL patterns followed by the resource type extensions
+    public List<String> getAllBlockedPatterns() {
+        Set<String> patterns = new LinkedHashSet<>(blockedUrlPatterns);
+        for (ResourceType type : blockedResourceTypes) {
+            patterns.addAll(type.getUrlPatterns());
+        }
+        return new ArrayList<>(patterns);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + blockedUrlPatterns.size() + " URL patterns, types " + blockedResourceTypes + ")";
+    }
+}
@@ -1,12 +1,24 @@
 package com.automation.pages;
 
 import com.automation.base.BasePage;
+import com.automation.base.PageCheck;
+import com.automation.base.Readiness;
+import com.automation.fixtures.Fixtures;
+import com.automation.network.NetworkProfile;
+import com.automation.network.NetworkProfile.ResourceType;
+import com.automation.performance.PerformanceBudget;
+import com.automation.session.SessionCache;
 import com.automation.utils.ExtentManager;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 public class AmazonPage extends BasePage {
     
@@ -55,19 +67,111 @@ public class AmazonPage extends BasePage {
     private final By proceedToCheckoutButton = By.name("proceedToRetailCheckout");
     private final By cartSubtotal = By.id("sc-subtotal-amount-activecart");
     
+    // Composite Checks - each one is evaluated in the browser in a single round trip
+    private final PageCheck homepageLoaded = PageCheck.named("Amazon homepage loaded")
+            .visible(searchBox)
+            .visible(amazonLogo)
+            .titleContains("Amazon");
+    private final PageCheck searchResultsDisplayed = PageCheck.named("Search results displayed")
+            .present(productTitles)
+            .visible(resultsInfo);
+    
+    // Deep Links - search results URL parameters behind the sort and category dropdowns
+    private static final String BASE_URL = Fixtures.baseUrl("amazon", "https://www.amazon.com");
+    private static final Map<String, String> SORT_OPTIONS = Map.of(
+            "Featured", "relevanceblender",
+            "Price: Low to High", "price-asc-rank",
+            "Price: High to Low", "price-desc-rank",
+            "Avg. Customer Review", "review-rank",
+            "Newest Arrivals", "date-desc-rank",
+            "Best Sellers", "exact-aware-popularity-rank");
+    private static final Map<String, String> CATEGORIES = Map.of(
+            "All Departments", "aps",
+            "Books", "stripbooks",
+            "Electronics", "electronics",
+            "Computers", "computers",
+            "Software", "software",
+            "Video Games", "videogames",
+            "Toys & Games", "toys-and-games",
+            "Movies & TV", "movies-tv",
+            "Home & Kitchen", "garden",
+            "Beauty & Personal Care", "beauty");
+    
+    // Network Profile - ads, tracking pixels, fonts and images are never asserted on
+    private static final NetworkProfile NETWORK_PROFILE = NetworkProfile.forSite("amazon",
+            List.of("*amazon-adsystem.com*", "*fls-na.amazon.com*", "*unagi.amazon.com*",
+                    "*unagi-na.amazon.com*", "*doubleclick.net*", "*google-analytics.com*"),
+            EnumSet.of(ResourceType.IMAGE, ResourceType.FONT, ResourceType.MEDIA));
+    
+    // Performance Budget - Core Web Vitals "good" thresholds
+    private static final PerformanceBudget PERFORMANCE_BUDGET = PerformanceBudget.forSite("amazon")
+            .largestContentfulPaint(2500)
+            .totalBlockingTime(300);
+    
     public AmazonPage(WebDriver driver) {
         super(driver);
     }
     
+    @Override
+    protected NetworkProfile getNetworkProfile() {
+        return NETWORK_PROFILE;
+    }
+    
+    @Override
+    protected PerformanceBudget getPerformanceBudget() {
+        return PERFORMANCE_BUDGET;
+    }
+    
+    @Override
+    protected ExpectedCondition<?> getReadinessCondition() {
+        return Readiness.elementVisible(amazonLogo);
+    }
+    
     // Navigation Methods
     public AmazonPage navigateToAmazon() {
         ExtentManager.logInfo("Navigating to Amazon homepage");
-        driver.get("https://www.amazon.com");
-        waitForElementToBeVisible(amazonLogo);
+        navigateTo(BASE_URL);
         ExtentManager.logPass("Successfully navigated to Amazon homepage");
         return this;
     }
     
+    // Deep Link Methods - skip the homepage, search box and dropdowns when results are only a precondition
+    public String buildSearchResultsUrl(String searchTerm, String sortOption, String category) {
+        StringBuilder url = new StringBuilder(BASE_URL).append("/s?k=").append(encode(searchTerm));
+        if (sortOption != null) {
+            String sortValue = SORT_OPTIONS.get(sortOption);
+            if (sortValue == null) {
+                throw new IllegalArgumentException("Unsupported sort option: '" + sortOption + "'. Supported: " + SORT_OPTIONS.keySet());
+            }
+            url.append("&s=").append(sortValue);
+        }
+        if (category != null) {
+            String categoryValue = CATEGORIES.get(category);
+            if (categoryValue == null) {
+                throw new IllegalArgumentException("Unsupported category: '" + category + "'. Supported: " + CATEGORIES.keySet());
+            }
+            url.append("&i=").append(categoryValue);
+        }
+        return url.toString();
+    }
+    
+    public AmazonPage openSearchResults(String searchTerm) {
+        return openSearchResults(searchTerm, null, null);
+    }
+    
+    public AmazonPage openSearchResults(String searchTerm, String sortOption, String category) {
+        ExtentManager.logInfo("Opening search results for: " + searchTerm
+                + (sortOption != null ? ", sorted by: " + sortOption : "")
+                + (category != null ? ", category: " + category : ""));
+        navigateTo(buildSearchResultsUrl(searchTerm, sortOption, category), Readiness.elementVisible(searchResults));
+        ExtentManager.logPass("Successfully opened search results for: " + searchTerm);
+        return this;
+    }
+    
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+    
     // Search Methods
     public AmazonPage enterSearchTerm(String searchTerm) {
         ExtentManager.logInfo("Entering search term: " + searchTerm);
@@ -101,8 +205,8 @@ public class AmazonPage extends BasePage {
     // Search Results Methods
     public int getProductCount() {
         ExtentManager.logInfo("Getting product count");
-        waitForElementsToBeVisible(productTitles);
-        int count = findElements(productTitles).size();
+        // The wait already returns every match, so counting them costs no further round trip
+        int count = waitForElementsToBeVisible(productTitles).size();
         ExtentManager.logInfo("Found " + count + " products");
         return count;
     }
@@ -134,6 +238,7 @@ public class AmazonPage extends BasePage {
     public List<String> getAllProductTitles() {
         ExtentManager.logInfo("Getting all product titles");
         waitForElementsToBeVisible(productTitles);
+        // Live getText: titles carry screen-reader-only text that a snapshot's text content would include
         List<String> titles = findElements(productTitles).stream()
                 .map(WebElement::getText)
                 .toList();
@@ -157,9 +262,26 @@ public class AmazonPage extends BasePage {
         return info;
     }
     
+    public String getSearchBoxValue() {
+        return getAttribute(searchBox, "value");
+    }
+    
+    // Reads the select's live value: Amazon hides the native select behind a styled button
+    public boolean isSortApplied(String sortOption) {
+        String value = findElement(sortDropdown).getDomProperty("value");
+        ExtentManager.logInfo("Selected sort option value: " + value);
+        return value != null && value.equals(SORT_OPTIONS.get(sortOption));
+    }
+    
+    public boolean isCategoryApplied(String category) {
+        String value = findElement(categoryDropdown).getDomProperty("value");
+        ExtentManager.logInfo("Selected category value: " + value);
+        return value != null && value.endsWith("=" + CATEGORIES.get(category));
+    }
+    
     public boolean areSearchResultsDisplayed() {
         ExtentManager.logInfo("Checking if search results are displayed");
-        boolean displayed = !findElements(productTitles).isEmpty() && isDisplayed(resultsInfo);
+        boolean displayed = check(searchResultsDisplayed).passed();
         ExtentManager.logInfo("Search results displayed: " + displayed);
         return displayed;
     }
@@ -248,6 +370,15 @@ public class AmazonPage extends BasePage {
         return this;
     }
     
+    // Logs in through the UI once per email and restores the cached cookies and storage in later sessions
+    public AmazonPage loginWithCachedSession(String email, String password) {
+        ExtentManager.logInfo("Establishing authenticated session for: " + email);
+        SessionCache.establish(driver, SessionCache.keyFor("amazon", email, password), BASE_URL,
+                this::navigateToAmazon, this::isUserSignedIn, () -> login(email, password));
+        ExtentManager.logPass("Authenticated session established for: " + email);
+        return this;
+    }
+    
     // Signup Methods
     public AmazonPage clickCreateAccount() {
         ExtentManager.logInfo("Clicking Create Account button");
@@ -379,9 +510,7 @@ public class AmazonPage extends BasePage {
     // Validation Methods
     public boolean isLoaded() {
         ExtentManager.logInfo("Checking if Amazon homepage is loaded");
-        boolean loaded = isDisplayed(searchBox) && 
-                        isDisplayed(amazonLogo) && 
-                        getPageTitle().contains("Amazon");
+        boolean loaded = check(homepageLoaded).passed();
         ExtentManager.logInfo("Amazon homepage loaded: " + loaded);
         return loaded;
     }
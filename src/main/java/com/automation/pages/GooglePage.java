@@ -1,10 +1,18 @@
 package com.automation.pages;
 
 import com.automation.base.BasePage;
+import com.automation.base.Readiness;
+import com.automation.fixtures.Fixtures;
+import com.automation.performance.PerformanceBudget;
+import com.automation.session.SessionCache;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 // SOLUTION 1: Static imports for simplified logging (RECOMMENDED)
@@ -36,23 +44,46 @@ public class GooglePage extends BasePage {
     private final By nextButton = By.id("identifierNext");
     private final By passwordNextButton = By.id("passwordNext");
     private final By createAccountButton = By.linkText("Create account");
+    private final By accountButton = By.cssSelector("a[href*='SignOutOptions']");
+    
+    private static final String BASE_URL = Fixtures.baseUrl("google", "https://www.google.com");
+    // Core Web Vitals "good" thresholds
+    private static final PerformanceBudget PERFORMANCE_BUDGET = PerformanceBudget.forSite("google")
+            .largestContentfulPaint(2500)
+            .totalBlockingTime(300);
     
     public GooglePage(WebDriver driver) {
         super(driver);
     }
     
+    @Override
+    protected PerformanceBudget getPerformanceBudget() {
+        return PERFORMANCE_BUDGET;
+    }
+    
+    // Ready once the title is set and the search box can be typed into - replaces the fixed 2 s sleep
+    @Override
+    protected ExpectedCondition<?> getReadinessCondition() {
+        return Readiness.allOf(ExpectedConditions.titleContains("Google"), Readiness.elementVisible(searchBox));
+    }
+    
     // Navigation Methods - NOW WITH SIMPLIFIED LOGGING!
     public GooglePage navigateToGoogle() {
         logInfo("Navigating to Google homepage");             // ✅ Simplified!
-        driver.get("https://www.google.com");
-        waitForPageTitle("Google");
+        navigateTo(BASE_URL);
         logPass("Successfully navigated to Google homepage"); // ✅ Simplified!
-        try {
-			Thread.sleep(2000);
-		} catch (InterruptedException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		}
+        return this;
+    }
+    
+    // Deep Link Methods - go straight to the results page when it is only a precondition
+    public String buildSearchUrl(String searchTerm) {
+        return BASE_URL + "/search?q=" + URLEncoder.encode(searchTerm, StandardCharsets.UTF_8);
+    }
+    
+    public GooglePage openSearchResults(String searchTerm) {
+        logInfo("Opening search results for: " + searchTerm);
+        navigateTo(buildSearchUrl(searchTerm), Readiness.elementVisible(searchResultTitles));
+        logPass("Successfully opened search results for: " + searchTerm);
         return this;
     }
     
@@ -89,8 +120,8 @@ public class GooglePage extends BasePage {
     // Search Results Methods - NOW WITH SIMPLIFIED LOGGING!
     public int getSearchResultsCount() {
         logInfo("Getting search results count");              // ✅ Simplified!
-        waitForElementsToBeVisible(searchResultTitles);
-        int count = findElements(searchResultTitles).size();
+        // The wait already returns every match, so counting them costs no further round trip
+        int count = waitForElementsToBeVisible(searchResultTitles).size();
         logInfo("Found " + count + " search results");        // ✅ Simplified!
         return count;
     }
@@ -122,6 +153,7 @@ public class GooglePage extends BasePage {
     public List<String> getAllResultTitles() {
         logInfo("Getting all search result titles");          // ✅ Simplified!
         waitForElementsToBeVisible(searchResultTitles);
+        // Live getText: only rendered text, which a snapshot's text content cannot tell apart
         List<String> titles = findElements(searchResultTitles).stream()
                 .map(WebElement::getText)
                 .toList();
@@ -228,6 +260,15 @@ public class GooglePage extends BasePage {
         return this;
     }
     
+    // Logs in through the UI once per email and restores the cached cookies and storage in later sessions
+    public GooglePage loginWithCachedSession(String email, String password) {
+        logInfo("Establishing authenticated session for: " + email);
+        SessionCache.establish(driver, SessionCache.keyFor("google", email, password), BASE_URL,
+                this::navigateToGoogle, this::isUserSignedIn, () -> login(email, password));
+        logPass("Authenticated session established for: " + email);
+        return this;
+    }
+    
     public GooglePage clickCreateAccount() {
         logInfo("Clicking Create Account button");            // ✅ Simplified!
         click(createAccountButton);
@@ -245,6 +286,13 @@ public class GooglePage extends BasePage {
         return loaded;
     }
     
+    public boolean isUserSignedIn() {
+        logInfo("Checking if user is signed in");
+        boolean signedIn = isElementPresent(accountButton);
+        logInfo("User signed in: " + signedIn);
+        return signedIn;
+    }
+    
     public String getSearchBoxPlaceholder() {
         logInfo("Getting search box placeholder text");       // ✅ Simplified!
         String placeholder = getAttribute(searchBox, "placeholder");
@@ -35,12 +35,7 @@ public class LeetcodePage extends BasePage {
         driver.get("https://www.google.com");
         waitForPageTitle("Google");
         logPass("Successfully navigated to Google homepage"); // ✅ Simplified!
-        try {
-			Thread.sleep(2000);
-		} catch (InterruptedException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		}
+        hardWait(2);
         return this;
     }
 
@@ -0,0 +1,10 @@
+package com.automation.performance;
+
+/**
+ * Navigation Timing, Paint Timing and Long Task figures for one navigation, in milliseconds from navigation start.
+ * Browsers without largest-contentful-paint or longtask observers report those as unsupported rather than zero.
+ */
+public record PageMetrics(long timeToFirstByteMs, long domContentLoadedMs, long loadEventMs,
+                          long firstContentfulPaintMs, long largestContentfulPaintMs, long totalBlockingTimeMs,
+                          int longTasks, boolean lcpSupported, boolean longTasksSupported) {
+}
@@ -0,0 +1,194 @@
+package com.automation.performance;
+
+import com.automation.utils.ExtentManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects Navigation Timing, FCP/LCP and long tasks after a page object navigates and checks them against
+ * the page's PerformanceBudget. Total blocking time is the sum of each long task's time over 50 ms after FCP.
+ */
+public class PagePerformance {
+
+    private static final Logger logger = LoggerFactory.getLogger(PagePerformance.class);
+    private static final long SETTLE_MS = Long.parseLong(System.getProperty("perf.settle.ms", "5000"));
+
+    // Long tasks are not kept in the performance timeline, so the observer has to exist before the page runs its scripts
+    private static final String OBSERVER_SCRIPT =
+            "(function() {" +
+            "  if (window.__automationPerf) { return; }" +
+            "  var perf = window.__automationPerf = { lcp: 0, longTasks: [] };" +
+            "  try { new PerformanceObserver(function(list) {" +
+            "    var entries = list.getEntries(); perf.lcp = entries[entries.length - 1].startTime;" +
+            "  }).observe({ type: 'largest-contentful-paint', buffered: true }); } catch (e) {}" +
+            "  try { new PerformanceObserver(function(list) {" +
+            "    list.getEntries().forEach(function(task) { perf.longTasks.push([task.startTime, task.duration]); });" +
+            "  }).observe({ type: 'longtask', buffered: true }); } catch (e) {}" +
+            "})();";
+
+    // Waits up to the settle time for the load event, then lets buffered observer callbacks run before reading
+    private static final String COLLECT_SCRIPT =
+            "var done = arguments[arguments.length - 1];" +
+            "var settleMs = arguments[0];" +
+            OBSERVER_SCRIPT +
+            "var started = Date.now();" +
+            "(function poll() {" +
+            "  if (document.readyState !== 'complete' && Date.now() - started < settleMs) { setTimeout(poll, 50); return; }" +
+            "  setTimeout(function() {" +
+            "    var perf = window.__automationPerf;" +
+            "    var types = (window.PerformanceObserver && PerformanceObserver.supportedEntryTypes) || [];" +
+            "    var nav = performance.getEntriesByType('navigation')[0] || {};" +
+            "    var paint = performance.getEntriesByName('first-contentful-paint')[0];" +
+            "    var fcp = paint ? paint.startTime : 0;" +
+            "    var tbt = 0;" +
+            "    for (var i = 0; i < perf.longTasks.length; i++) {" +
+            "      if (perf.longTasks[i][0] >= fcp) { tbt += Math.max(0, perf.longTasks[i][1] - 50); }" +
+            "    }" +
+            "    done([nav.responseStart || 0, nav.domContentLoadedEventEnd || 0, nav.loadEventEnd || 0, fcp, perf.lcp, tbt," +
+            "      perf.longTasks.length, types.indexOf('largest-contentful-paint') >= 0, types.indexOf('longtask') >= 0]);" +
+            "  }, 0);" +
+            "})();";
+
+    private static final Set<WebDriver> instrumented = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+    private static final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    private PagePerformance() {
+    }
+
+    // Registers the observers for every document this session opens from now on (Chrome/Edge via CDP)
+    public static void prepare(WebDriver driver) {
+        if (!(driver instanceof HasCdp cdp) || instrumented.contains(driver)) {
+            return;
+        }
+        try {
+            cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", OBSERVER_SCRIPT));
+            instrumented.add(driver);
+        } catch (Exception e) {
+            logger.warn("Failed to register performance observers: {}", e.getMessage());
+        }
+    }
+
+    public static PageMetrics collect(WebDriver driver) {
+        List<?> result = (List<?>) ((JavascriptExecutor) driver).executeAsyncScript(COLLECT_SCRIPT, SETTLE_MS);
+        return new PageMetrics(
+                millis(result.get(0)), millis(result.get(1)), millis(result.get(2)),
+                millis(result.get(3)), millis(result.get(4)), millis(result.get(5)),
+                (int) millis(result.get(6)), Boolean.TRUE.equals(result.get(7)), Boolean.TRUE.equals(result.get(8)));
+    }
+
+    /**
+     * Collects the current page's metrics, attaches them to the report and applies the budget.
+     * With hard enforcement a breach throws an AssertionError so the test fails rather than errors.
+     */
+    public static void check(WebDriver driver, PerformanceBudget budget, String url) {
+        PerformanceBudget.Enforcement enforcement = budget.getEnforcement();
+        if (enforcement == PerformanceBudget.Enforcement.OFF) {
+            return;
+        }
+        PageMetrics metrics;
+        try {
+            metrics = collect(driver);
+        } catch (Exception e) {
+            logger.warn("Failed to collect performance metrics for {}: {}", url, e.getMessage());
+            ExtentManager.logWarning("Performance metrics unavailable for " + url + ": " + e.getMessage());
+            return;
+        }
+
+        List<String> breaches = new ArrayList<>();
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Metric", "Value", "Budget", "Result"});
+        rows.add(row("Time to first byte", metrics.timeToFirstByteMs(), true, -1, budget, breaches));
+        rows.add(row("DOMContentLoaded", metrics.domContentLoadedMs(), true, -1, budget, breaches));
+        rows.add(row("Load event", metrics.loadEventMs(), metrics.loadEventMs() > 0, budget.getLoadMs(), budget, breaches));
+        rows.add(row("First contentful paint", metrics.firstContentfulPaintMs(), metrics.firstContentfulPaintMs() > 0,
+                budget.getFcpMs(), budget, breaches));
+        rows.add(row("Largest contentful paint", metrics.largestContentfulPaintMs(), metrics.lcpSupported(),
+                budget.getLcpMs(), budget, breaches));
+        rows.add(row("Total blocking time (" + metrics.longTasks() + " long tasks)", metrics.totalBlockingTimeMs(),
+                metrics.longTasksSupported(), budget.getTotalBlockingTimeMs(), budget, breaches));
+
+        stats.computeIfAbsent(budget.getSite(), site -> new Stats()).add(metrics, !breaches.isEmpty());
+        logger.info("Performance of {}: {} breaches={}", url, metrics, breaches);
+        ExtentManager.logInfo("Page performance for " + url + " against budget " + budget);
+        ExtentManager.logTable(rows.toArray(new String[0][]));
+
+        if (breaches.isEmpty()) {
+            ExtentManager.logPass("Performance budget met for " + budget.getSite());
+            return;
+        }
+        String message = "Performance budget exceeded for " + budget.getSite() + ": " + String.join(", ", breaches);
+        if (enforcement == PerformanceBudget.Enforcement.HARD) {
+            ExtentManager.logFail(message);
+            throw new AssertionError(message);
+        }
+        ExtentManager.logWarning(message);
+    }
+
+    public static void publishSummary() {
+        if (stats.isEmpty()) {
+            return;
+        }
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Site", "Navigations", "Budget breaches", "Avg LCP ms", "Max LCP ms", "Avg TBT ms", "Max TBT ms"});
+        stats.forEach((site, value) -> {
+            long count = value.navigations.sum();
+            rows.add(new String[]{site, String.valueOf(count), String.valueOf(value.breaches.sum()),
+                    String.valueOf(value.lcpTotal.sum() / count), String.valueOf(value.lcpMax.get()),
+                    String.valueOf(value.tbtTotal.sum() / count), String.valueOf(value.tbtMax.get())});
+        });
+        ExtentManager.addSummaryTable("Page Performance", "Navigation metrics and budget breaches per site",
+                rows.toArray(new String[0][]));
+    }
+
+    private static String[] row(String metric, long value, boolean supported, long limit,
+                                PerformanceBudget budget, List<String> breaches) {
+        if (!supported) {
+            return new String[]{metric, "n/a", budget.isSet(limit) ? "< " + limit + " ms" : "-", "not measured"};
+        }
+        if (!budget.isSet(limit)) {
+            return new String[]{metric, value + " ms", "-", "-"};
+        }
+        boolean met = value <= limit;
+        if (!met) {
+            breaches.add(metric + " " + value + " ms > " + limit + " ms");
+        }
+        return new String[]{metric, value + " ms", "< " + limit + " ms", met ? "OK" : "EXCEEDED"};
+    }
+
+    private static long millis(Object value) {
+        return value instanceof Number number ? Math.round(number.doubleValue()) : 0;
+    }
+
+    private static class Stats {
+        private final LongAdder navigations = new LongAdder();
+        private final LongAdder breaches = new LongAdder();
+        private final LongAdder lcpTotal = new LongAdder();
+        private final LongAdder tbtTotal = new LongAdder();
+        private final LongAccumulator lcpMax = new LongAccumulator(Math::max, 0);
+        private final LongAccumulator tbtMax = new LongAccumulator(Math::max, 0);
+
+        void add(PageMetrics metrics, boolean breached) {
+            navigations.increment();
+            if (breached) {
+                breaches.increment();
+            }
+            lcpTotal.add(metrics.largestContentfulPaintMs());
+            tbtTotal.add(metrics.totalBlockingTimeMs());
+            lcpMax.accumulate(metrics.largestContentfulPaintMs());
+            tbtMax.accumulate(metrics.totalBlockingTimeMs());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.automation.performance;
+
+import java.util.Locale;
+
+/**
+ * Front-end performance limits a page object declares for its navigations. Each limit can be overridden
+ * per site with -Dperf.budget.&lt;site&gt;.lcp.ms, .fcp.ms, .tbt.ms, .load.ms and the enforcement with
+ * -Dperf.budget.&lt;site&gt;.mode or -Dperf.budget.mode (soft, hard or off). Budgets are off unless a run asks
+ * for them or the page declares hard(): collecting waits for the load event, up to perf.settle.ms, which would
+ * undo the eager page-load strategy in ordinary functional runs.
+ */
+public class PerformanceBudget {
+
+    public enum Enforcement {
+        // Breaches are reported as warnings and the test carries on
+        SOFT,
+        // Breaches fail the test
+        HARD,
+        OFF
+    }
+
+    private static final long UNSET = -1;
+
+    private final String site;
+    private long lcpMs = UNSET;
+    private long fcpMs = UNSET;
+    private long totalBlockingTimeMs = UNSET;
+    private long loadMs = UNSET;
+    private Enforcement enforcement = Enforcement.OFF;
+
+    private PerformanceBudget(String site) {
+        this.site = site;
+    }
+
+    public static PerformanceBudget forSite(String site) {
+        return new PerformanceBudget(site);
+    }
+
+    public PerformanceBudget largestContentfulPaint(long maxMs) {
+        this.lcpMs = maxMs;
+        return this;
+    }
+
+    public PerformanceBudget firstContentfulPaint(long maxMs) {
+        this.fcpMs = maxMs;
+        return this;
+    }
+
+    public PerformanceBudget totalBlockingTime(long maxMs) {
+        this.totalBlockingTimeMs = maxMs;
+        return this;
+    }
+
+    public PerformanceBudget loadEvent(long maxMs) {
+        this.loadMs = maxMs;
+        return this;
+    }
+
+    public PerformanceBudget hard() {
+        this.enforcement = Enforcement.HARD;
+        return this;
+    }
+
+    public String getSite() {
+        return site;
+    }
+
+    public long getLcpMs() {
+        return limit("lcp", lcpMs);
+    }
+
+    public long getFcpMs() {
+        return limit("fcp", fcpMs);
+    }
+
+    public long getTotalBlockingTimeMs() {
+        return limit("tbt", totalBlockingTimeMs);
+    }
+
+    public long getLoadMs() {
+        return limit("load", loadMs);
+    }
+
+    public Enforcement getEnforcement() {
+        String mode = System.getProperty("perf.budget." + site + ".mode", System.getProperty("perf.budget.mode"));
+        return mode != null ? Enforcement.valueOf(mode.trim().toUpperCase(Locale.ROOT)) : enforcement;
+    }
+
+    public boolean isSet(long limit) {
+        return limit != UNSET;
+    }
+
+    private long limit(String metric, long defaultMs) {
+        String value = System.getProperty("perf.budget." + site + "." + metric + ".ms");
+        return value != null ? Long.parseLong(value.trim()) : defaultMs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (LCP %s, FCP %s, TBT %s, load %s, %s)", site, describe(getLcpMs()), describe(getFcpMs()),
+                describe(getTotalBlockingTimeMs()), describe(getLoadMs()), getEnforcement().name().toLowerCase(Locale.ROOT));
+    }
+
+    private String describe(long limit) {
+        return isSet(limit) ? "< " + limit + " ms" : "-";
+    }
+}
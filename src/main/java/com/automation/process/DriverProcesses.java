@@ -0,0 +1,79 @@
+package com.automation.process;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Finds the local driver process behind a session and the browser processes it started. Selenium does not expose
+ * the driver service's PID, but every driver binary is started with --port=N (or --port N) and the session talks
+ * to it on that port; the browsers are its descendants.
+ */
+public class DriverProcesses {
+
+    private static final Set<String> LOCAL_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]", "::1");
+
+    private DriverProcesses() {
+    }
+
+    // Port of the driver serving this session on this machine, or -1 for remote sessions
+    public static int localPort(WebDriver driver) {
+        WebDriver original = driver;
+        while (original instanceof WrapsDriver wrapper) {
+            original = wrapper.getWrappedDriver();
+        }
+        if (original instanceof RemoteWebDriver remote && remote.getCommandExecutor() instanceof HttpCommandExecutor executor) {
+            URL address = executor.getAddressOfRemoteServer();
+            if (address != null && LOCAL_HOSTS.contains(address.getHost())) {
+                return address.getPort();
+            }
+        }
+        return -1;
+    }
+
+    public static Optional<ProcessHandle> driverProcess(int port) {
+        if (port <= 0) {
+            return Optional.empty();
+        }
+        String portArgument = "--port=" + port;
+        return ProcessHandle.allProcesses()
+                .filter(process -> {
+                    List<String> args = Arrays.asList(process.info().arguments().orElse(new String[0]));
+                    int index = args.indexOf("--port");
+                    return args.contains(portArgument)
+                            || (index >= 0 && index + 1 < args.size() && args.get(index + 1).equals(String.valueOf(port)))
+                            || process.info().commandLine().map(line -> line.contains(portArgument)).orElse(false);
+                })
+                .findFirst();
+    }
+
+    // The driver followed by every process it started, deepest last
+    public static List<ProcessHandle> tree(ProcessHandle driverProcess) {
+        List<ProcessHandle> processes = new ArrayList<>();
+        processes.add(driverProcess);
+        driverProcess.descendants().forEach(processes::add);
+        return processes;
+    }
+
+    // Browsers before the driver so the driver cannot restart them; returns how many were killed
+    public static int kill(ProcessHandle driverProcess) {
+        int killed = 0;
+        for (ProcessHandle child : driverProcess.descendants().toList()) {
+            if (child.destroyForcibly()) {
+                killed++;
+            }
+        }
+        if (driverProcess.destroyForcibly()) {
+            killed++;
+        }
+        return killed;
+    }
+}
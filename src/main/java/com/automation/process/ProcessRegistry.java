@@ -0,0 +1,235 @@
+package com.automation.process;
+
+import com.automation.utils.ExtentManager;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Records every driver and browser process the framework starts in a registry file shared by all runs on the
+ * machine (process.registry.file, default reports/processes/registry.json), so processes left behind by a failed
+ * quit() or a crashed JVM can be reclaimed. Leftovers are killed at suite end (sessions that were closed but whose
+ * processes survived), in a shutdown hook (everything this JVM started) and at the next suite start (everything
+ * started by JVMs that are no longer running). A PID is only killed while its start time still matches the
+ * registered one, so a reused PID is never touched.
+ */
+public class ProcessRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessRegistry.class);
+    private static final File REGISTRY_FILE = new File(System.getProperty("process.registry.file", "reports/processes/registry.json"));
+    // Start times are read from /proc with jiffy precision, so a few ms of drift between reads is normal
+    private static final long START_TOLERANCE_MS = 1000;
+    private static final ProcessHandle SELF = ProcessHandle.current();
+    private static final long SELF_START = startMillis(SELF);
+
+    private static final AtomicInteger reclaimedAtStart = new AtomicInteger();
+    private static final AtomicInteger reclaimedAtEnd = new AtomicInteger();
+
+    /**
+     * One registered process. The owner is the JVM that started it; closed is set once its session was quit.
+     */
+    public record Entry(long pid, long startMillis, String command, int driverPort, long ownerPid, long ownerStartMillis,
+                        boolean closed) {
+
+        Entry close() {
+            return new Entry(pid, startMillis, command, driverPort, ownerPid, ownerStartMillis, true);
+        }
+
+        boolean ownedBy(long ownerPid, long ownerStartMillis) {
+            return this.ownerPid == ownerPid && Math.abs(this.ownerStartMillis - ownerStartMillis) <= START_TOLERANCE_MS;
+        }
+    }
+
+    static {
+        if (isEnabled()) {
+            Runtime.getRuntime().addShutdownHook(new Thread(ProcessRegistry::reapAtExit, "process-reaper"));
+        }
+    }
+
+    private ProcessRegistry() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("process.reaper", "true"));
+    }
+
+    // Called right after a session is created; remote sessions have no local processes to register
+    public static void register(WebDriver driver) {
+        if (!isEnabled()) {
+            return;
+        }
+        int port = DriverProcesses.localPort(driver);
+        Optional<ProcessHandle> driverProcess = DriverProcesses.driverProcess(port);
+        if (driverProcess.isEmpty()) {
+            return;
+        }
+        List<Entry> started = entries(DriverProcesses.tree(driverProcess.get()), port, false);
+        update(entries -> {
+            List<Entry> updated = new ArrayList<>(entries);
+            updated.removeIf(entry -> started.stream().anyMatch(process -> process.pid() == entry.pid()));
+            updated.addAll(started);
+            return updated;
+        });
+        logger.debug("Registered {} processes for the driver on port {}", started.size(), port);
+    }
+
+    /**
+     * Called just before a session is quit. Browsers start and stop helper processes during a session, so the
+     * current tree is registered again and the session is marked closed: anything of it still running at suite
+     * end is a leftover.
+     */
+    public static void release(WebDriver driver) {
+        if (!isEnabled()) {
+            return;
+        }
+        int port = DriverProcesses.localPort(driver);
+        if (port <= 0) {
+            return;
+        }
+        List<Entry> current = DriverProcesses.driverProcess(port)
+                .map(process -> entries(DriverProcesses.tree(process), port, true))
+                .orElse(List.of());
+        update(entries -> {
+            List<Entry> updated = new ArrayList<>();
+            for (Entry entry : entries) {
+                boolean sameSession = entry.driverPort() == port && entry.ownedBy(SELF.pid(), SELF_START);
+                if (current.stream().noneMatch(process -> process.pid() == entry.pid())) {
+                    updated.add(sameSession ? entry.close() : entry);
+                }
+            }
+            updated.addAll(current);
+            return updated;
+        });
+    }
+
+    // Suite start: processes started by runs whose JVM is gone, e.g. after a crash or a killed CI job
+    public static int reapOrphans() {
+        int reclaimed = reap("orphaned by an earlier run", entry -> !ownerAlive(entry));
+        reclaimedAtStart.addAndGet(reclaimed);
+        return reclaimed;
+    }
+
+    // Suite end: closed sessions of this JVM whose processes survived quit()
+    public static int reapClosed() {
+        int reclaimed = reap("left behind after quit", entry -> entry.closed() && entry.ownedBy(SELF.pid(), SELF_START));
+        reclaimedAtEnd.addAndGet(reclaimed);
+        return reclaimed;
+    }
+
+    private static void reapAtExit() {
+        reap("still running at JVM exit", entry -> entry.ownedBy(SELF.pid(), SELF_START));
+    }
+
+    public static void publishSummary() {
+        if (!isEnabled()) {
+            return;
+        }
+        ExtentManager.addSummaryTable("Process Reaper", "Driver and browser processes killed because nothing else would have",
+                new String[][]{
+                        {"When", "Processes reclaimed"},
+                        {"Suite start (left by runs that crashed or were killed)", String.valueOf(reclaimedAtStart.get())},
+                        {"Suite end (sessions whose quit() did not stop them)", String.valueOf(reclaimedAtEnd.get())}});
+    }
+
+    // Kills matching registered processes that are still the processes we registered, and drops every entry
+    // that matched, alive or not
+    private static int reap(String reason, Predicate<Entry> selected) {
+        if (!isEnabled()) {
+            return 0;
+        }
+        AtomicInteger killed = new AtomicInteger();
+        update(entries -> {
+            List<Entry> kept = new ArrayList<>();
+            for (Entry entry : entries) {
+                if (!selected.test(entry)) {
+                    kept.add(entry);
+                    continue;
+                }
+                Optional<ProcessHandle> process = ProcessHandle.of(entry.pid())
+                        .filter(ProcessHandle::isAlive)
+                        .filter(handle -> Math.abs(startMillis(handle) - entry.startMillis()) <= START_TOLERANCE_MS);
+                if (process.isPresent() && process.get().destroyForcibly()) {
+                    killed.incrementAndGet();
+                    logger.warn("Killed process {} ({}) {}", entry.pid(), entry.command(), reason);
+                }
+            }
+            return kept;
+        });
+        if (killed.get() > 0) {
+            logger.warn("Reclaimed {} driver/browser processes {}", killed.get(), reason);
+        }
+        return killed.get();
+    }
+
+    private static List<Entry> entries(List<ProcessHandle> processes, int port, boolean closed) {
+        List<Entry> entries = new ArrayList<>();
+        for (ProcessHandle process : processes) {
+            long start = startMillis(process);
+            if (start > 0) {
+                entries.add(new Entry(process.pid(), start, process.info().command().orElse("?"), port, SELF.pid(),
+                        SELF_START, closed));
+            }
+        }
+        return entries;
+    }
+
+    private static boolean ownerAlive(Entry entry) {
+        return ProcessHandle.of(entry.ownerPid())
+                .filter(ProcessHandle::isAlive)
+                .map(owner -> Math.abs(startMillis(owner) - entry.ownerStartMillis()) <= START_TOLERANCE_MS)
+                .orElse(false);
+    }
+
+    private static long startMillis(ProcessHandle process) {
+        return process.info().startInstant().map(Instant::toEpochMilli).orElse(-1L);
+    }
+
+    // Read-modify-write under a file lock, since parallel jobs on the same runner share the registry
+    // The file lock is only held for the duration of the try block and never referenced inside it
+    @SuppressWarnings("try")
+    private static synchronized void update(Function<List<Entry>, List<Entry>> change) {
+        File dir = REGISTRY_FILE.getAbsoluteFile().getParentFile();
+        if (!dir.exists() && !dir.mkdirs()) {
+            logger.warn("Failed to create process registry directory: {}", dir.getPath());
+            return;
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        File lockFile = new File(dir, REGISTRY_FILE.getName() + ".lock");
+        try (RandomAccessFile lockAccess = new RandomAccessFile(lockFile, "rw");
+             FileChannel channel = lockAccess.getChannel();
+             FileLock lock = channel.lock()) {
+            List<Entry> entries = new ArrayList<>();
+            if (REGISTRY_FILE.exists() && REGISTRY_FILE.length() > 0) {
+                try {
+                    entries = mapper.readValue(REGISTRY_FILE, new TypeReference<List<Entry>>() {
+                    });
+                } catch (IOException e) {
+                    logger.warn("Ignoring unreadable process registry {}: {}", REGISTRY_FILE.getPath(), e.getMessage());
+                }
+            }
+            List<Entry> updated = change.apply(entries);
+            File temp = new File(dir, REGISTRY_FILE.getName() + ".tmp");
+            mapper.writerWithDefaultPrettyPrinter().writeValue(temp, updated);
+            Files.move(temp.toPath(), REGISTRY_FILE.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to update process registry: {}", e.getMessage());
+        }
+    }
+}
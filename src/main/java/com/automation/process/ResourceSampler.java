@@ -0,0 +1,271 @@
+package com.automation.process;
+
+import com.automation.utils.ExtentManager;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Samples the driver and browser processes of each local session from /proc every resource.sample.ms (default
+ * 1000): resident memory, CPU time and open file descriptors over the whole process tree, which changes as the
+ * browser starts and stops renderers. Per-test peaks and averages are logged on the test and attached to its
+ * result under RESULT_ATTRIBUTE; the suite summary adds the peak across all concurrent sessions for sizing
+ * runners. Only works on Linux; remote sessions are not sampled.
+ */
+public class ResourceSampler {
+
+    public static final String RESULT_ATTRIBUTE = "automation.resources";
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceSampler.class);
+    private static final long INTERVAL_MS = Long.parseLong(System.getProperty("resource.sample.ms", "1000"));
+    // RSS growth between the first and last sample of a test that is flagged as a possible leak
+    private static final double GROWTH_WARN_MB = Double.parseDouble(System.getProperty("resource.growth.warn.mb", "200"));
+
+    private static final Map<Thread, Session> sessions = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Session> current = new ThreadLocal<>();
+    // Tests finished since the last summary; the synthetic monitor publishes one per run in the same JVM
+    private static final Queue<ResourceUsage> finished = new ConcurrentLinkedQueue<>();
+    private static final AtomicLong peakConcurrentRssKb = new AtomicLong();
+    private static final AtomicInteger peakConcurrentProcesses = new AtomicInteger();
+    private static volatile ScheduledExecutorService scheduler;
+
+    private static final class Session {
+        private final String test;
+        private final int port;
+        private final long startNanos = System.nanoTime();
+        private ProcessHandle driverProcess;
+        private int samples;
+        private long firstRssKb = -1;
+        private long lastRssKb;
+        private long peakRssKb;
+        private long totalRssKb;
+        private int peakFds;
+        private long totalFds;
+        private int peakProcesses;
+        // CPU time is cumulative per process, so the highest value seen counts; exited processes keep theirs
+        private final Map<Long, Long> cpuNanos = new HashMap<>();
+        private final Map<Long, Long> baselineCpuNanos = new HashMap<>();
+
+        Session(String test, int port) {
+            this.test = test;
+            this.port = port;
+        }
+
+        // Returns the tree's RSS in kB and process count, or null when the driver is not (or no longer) found
+        synchronized long[] sample() {
+            if (driverProcess == null) {
+                driverProcess = DriverProcesses.driverProcess(port).orElse(null);
+            }
+            if (driverProcess == null || !driverProcess.isAlive()) {
+                return null;
+            }
+            long rssKb = 0;
+            int fds = 0;
+            int processes = 0;
+            for (ProcessHandle process : DriverProcesses.tree(driverProcess)) {
+                long pid = process.pid();
+                long processRssKb = readRssKb(pid);
+                if (processRssKb < 0) {
+                    continue; // Exited between listing and reading
+                }
+                rssKb += processRssKb;
+                fds += countFds(pid);
+                processes++;
+                process.info().totalCpuDuration().ifPresent(cpu -> {
+                    cpuNanos.merge(pid, cpu.toNanos(), Math::max);
+                    if (samples == 0) {
+                        baselineCpuNanos.put(pid, cpu.toNanos());
+                    }
+                });
+            }
+            if (firstRssKb < 0) {
+                firstRssKb = rssKb;
+            }
+            samples++;
+            lastRssKb = rssKb;
+            totalRssKb += rssKb;
+            peakRssKb = Math.max(peakRssKb, rssKb);
+            totalFds += fds;
+            peakFds = Math.max(peakFds, fds);
+            peakProcesses = Math.max(peakProcesses, processes);
+            return new long[]{rssKb, processes};
+        }
+
+        synchronized ResourceUsage usage() {
+            long cpu = cpuNanos.entrySet().stream()
+                    .mapToLong(entry -> entry.getValue() - baselineCpuNanos.getOrDefault(entry.getKey(), 0L))
+                    .sum();
+            long wallNanos = System.nanoTime() - startNanos;
+            return new ResourceUsage(test, samples, mb(peakRssKb), samples == 0 ? 0 : mb(totalRssKb) / samples,
+                    mb(lastRssKb - Math.max(firstRssKb, 0)), peakFds, samples == 0 ? 0 : (double) totalFds / samples,
+                    peakProcesses, cpu / 1e9, wallNanos == 0 ? 0 : 100.0 * cpu / wallNanos);
+        }
+    }
+
+    private ResourceSampler() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("resource.sampling", "true")) && INTERVAL_MS > 0
+                && new File("/proc/self/status").exists();
+    }
+
+    // Called on the test thread once its session is ready; the first sample sets the CPU baseline
+    public static void start(String test, WebDriver driver) {
+        if (!isEnabled()) {
+            return;
+        }
+        int port = DriverProcesses.localPort(driver);
+        if (port <= 0) {
+            logger.debug("Not sampling {}: no local driver process", test);
+            return;
+        }
+        Session session = new Session(test, port);
+        session.sample();
+        sessions.put(Thread.currentThread(), session);
+        current.set(session);
+        startScheduler();
+    }
+
+    /**
+     * Takes a last sample before the session is closed, then logs and returns the test's usage; null when the
+     * test was not sampled.
+     */
+    public static ResourceUsage stop() {
+        Session session = current.get();
+        if (session == null) {
+            return null;
+        }
+        sessions.remove(Thread.currentThread());
+        current.remove();
+        session.sample();
+        ResourceUsage usage = session.usage();
+        if (usage.samples() == 0) {
+            return null;
+        }
+        finished.add(usage);
+        ExtentManager.logTable(new String[][]{
+                {"Processes", "Peak RSS MB", "Avg RSS MB", "RSS growth MB", "Peak FDs", "Avg FDs", "CPU s", "Avg CPU %"},
+                {String.valueOf(usage.peakProcesses()), format(usage.peakRssMb()), format(usage.averageRssMb()),
+                        format(usage.rssGrowthMb()), String.valueOf(usage.peakFds()), format(usage.averageFds()),
+                        format(usage.cpuSeconds()), format(usage.averageCpuPercent())}});
+        if (usage.rssGrowthMb() > GROWTH_WARN_MB) {
+            ExtentManager.logWarning("Browser memory grew by " + format(usage.rssGrowthMb()) + " MB during the test");
+        }
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result != null) {
+            result.setAttribute(RESULT_ATTRIBUTE, usage);
+        }
+        logger.debug("Resources of {}: {}", usage.test(), usage);
+        return usage;
+    }
+
+    // Heaviest tests first, with the peak across all sessions that ran at the same time; starts over afterwards
+    public static void publishSummary() {
+        List<ResourceUsage> usages = new ArrayList<>();
+        for (ResourceUsage usage; (usage = finished.poll()) != null; ) {
+            usages.add(usage);
+        }
+        long peakRssKb = peakConcurrentRssKb.getAndSet(0);
+        int peakProcesses = peakConcurrentProcesses.getAndSet(0);
+        if (usages.isEmpty()) {
+            return;
+        }
+        usages.sort(Comparator.comparingDouble(ResourceUsage::peakRssMb).reversed());
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Test", "Samples", "Processes", "Peak RSS MB", "Avg RSS MB", "RSS growth MB", "Peak FDs",
+                "Avg FDs", "CPU s", "Avg CPU %"});
+        for (ResourceUsage usage : usages) {
+            rows.add(new String[]{usage.test(), String.valueOf(usage.samples()), String.valueOf(usage.peakProcesses()),
+                    format(usage.peakRssMb()), format(usage.averageRssMb()), format(usage.rssGrowthMb()),
+                    String.valueOf(usage.peakFds()), format(usage.averageFds()), format(usage.cpuSeconds()),
+                    format(usage.averageCpuPercent())});
+        }
+        double averagePeak = usages.stream().mapToDouble(ResourceUsage::peakRssMb).average().orElse(0);
+        ExtentManager.addSummaryTable("Browser Resources", String.format("Driver and browser process trees sampled every %d ms. "
+                        + "Average peak per session %s MB; peak across concurrent sessions %s MB in %d processes",
+                INTERVAL_MS, format(averagePeak), format(mb(peakRssKb)), peakProcesses),
+                rows.toArray(new String[0][]));
+    }
+
+    private static void startScheduler() {
+        if (scheduler != null) {
+            return;
+        }
+        synchronized (ResourceSampler.class) {
+            if (scheduler == null) {
+                ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread thread = new Thread(r, "resource-sampler");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                executor.scheduleAtFixedRate(ResourceSampler::sampleAll, INTERVAL_MS, INTERVAL_MS, TimeUnit.MILLISECONDS);
+                scheduler = executor;
+            }
+        }
+    }
+
+    private static void sampleAll() {
+        long rssKb = 0;
+        int processes = 0;
+        for (Session session : sessions.values()) {
+            try {
+                long[] sample = session.sample();
+                if (sample != null) {
+                    rssKb += sample[0];
+                    processes += (int) sample[1];
+                }
+            } catch (Exception e) {
+                logger.debug("Failed to sample {}: {}", session.test, e.getMessage());
+            }
+        }
+        peakConcurrentRssKb.accumulateAndGet(rssKb, Math::max);
+        peakConcurrentProcesses.accumulateAndGet(processes, Math::max);
+    }
+
+    // VmRSS from /proc/<pid>/status in kB, -1 when the process is gone
+    private static long readRssKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(new File("/proc/" + pid + "/status").toPath())) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring(6).replace("kB", "").trim());
+                }
+            }
+            return 0; // Zombie or kernel thread without memory
+        } catch (IOException | NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static int countFds(long pid) {
+        String[] fds = new File("/proc/" + pid + "/fd").list();
+        return fds == null ? 0 : fds.length;
+    }
+
+    private static double mb(long kb) {
+        return kb / 1024.0;
+    }
+
+    private static String format(double value) {
+        return String.format("%.1f", value);
+    }
+}
@@ -0,0 +1,10 @@
+package com.automation.process;
+
+/**
+ * Resource use of one test's driver and browser processes, summed over the process tree per sample.
+ * Memory is in MB, CPU time in seconds; averageCpuPercent can exceed 100 on multi-core runners.
+ */
+public record ResourceUsage(String test, int samples, double peakRssMb, double averageRssMb, double rssGrowthMb,
+                            int peakFds, double averageFds, int peakProcesses, double cpuSeconds,
+                            double averageCpuPercent) {
+}
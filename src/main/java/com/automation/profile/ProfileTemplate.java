@@ -0,0 +1,299 @@
+package com.automation.profile;
+
+import com.automation.process.ProcessRegistry;
+import com.automation.utils.ExtentManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Keeps a warmed Chrome profile (HTTP cache, certificates, service workers) and gives every session a
+ * private clone of it as --user-data-dir. Enabled with -Dprofile.mode=template.
+ */
+public class ProfileTemplate {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileTemplate.class);
+    private static final String ROOT_DIR = System.getProperty("profile.dir", "target/browser-profile/");
+    private static final File TEMPLATE_DIR = new File(ROOT_DIR, "template");
+    private static final File SESSIONS_DIR = new File(ROOT_DIR, "sessions");
+    private static final File WARM_MARKER = new File(TEMPLATE_DIR, ".warm");
+    // Chrome refuses or misbehaves when a clone carries the template's process locks
+    private static final Set<String> LOCK_FILES = Set.of("SingletonLock", "SingletonSocket", "SingletonCookie", "lockfile");
+
+    private static final ExecutorService cleanupExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "profile-cleanup");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Object templateLock = new Object();
+    private static volatile Boolean reflinkSupported;
+
+    private static final Map<File, Long> initialSizes = new ConcurrentHashMap<>();
+    private static final LongAdder sessions = new LongAdder();
+    private static final LongAdder cloneMillis = new LongAdder();
+    private static final LongAdder cloneBytes = new LongAdder();
+    private static final LongAdder sessionGrowthBytes = new LongAdder();
+    // Profile mode of each new session until its first navigation, which is where a warm cache pays off
+    private static final Map<WebDriver, String> pendingFirstNavigations = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, LongAdder[]> firstNavigations = new ConcurrentHashMap<>();
+
+    private ProfileTemplate() {
+    }
+
+    public static boolean isEnabled() {
+        return "template".equalsIgnoreCase(System.getProperty("profile.mode", "none"));
+    }
+
+    // Clones the template for one session; baseOptions must not contain --user-data-dir yet
+    public static File newSessionProfile(ChromeOptions baseOptions) {
+        ensureWarm(baseOptions);
+        File sessionDir = new File(SESSIONS_DIR, UUID.randomUUID().toString());
+        long start = System.nanoTime();
+        String method;
+        try {
+            method = cloneTemplate(sessionDir.toPath());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to clone browser profile template", e);
+        }
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        long bytes = sizeOf(sessionDir.toPath());
+
+        initialSizes.put(sessionDir, bytes);
+        sessions.increment();
+        cloneMillis.add(elapsedMs);
+        cloneBytes.add(bytes);
+        logger.info("Cloned browser profile to {} via {} ({} KB in {} ms)", sessionDir, method, bytes / 1024, elapsedMs);
+        ExtentManager.logInfo(String.format("Browser profile cloned via %s: %.1f MB in %d ms", method, bytes / 1048576.0, elapsedMs));
+        return sessionDir;
+    }
+
+    // Called for every freshly launched session; usedTemplate is false for sessions started with an empty profile
+    public static void trackFirstNavigation(WebDriver driver, boolean usedTemplate) {
+        pendingFirstNavigations.put(driver, usedTemplate ? "template" : "none");
+    }
+
+    // Records the time to interactive of the session's first navigation only; later navigations are ignored
+    public static void recordNavigation(WebDriver driver, String url, long timeToInteractiveMs) {
+        String mode = pendingFirstNavigations.remove(driver);
+        if (mode == null) {
+            return;
+        }
+        LongAdder[] totals = firstNavigations.computeIfAbsent(mode, k -> new LongAdder[]{new LongAdder(), new LongAdder()});
+        totals[0].increment();
+        totals[1].add(timeToInteractiveMs);
+        logger.debug("First navigation of session (profile mode {}) to {}: {} ms", mode, url, timeToInteractiveMs);
+    }
+
+    // Deletes the session copy off the test thread once the browser has quit
+    public static void releaseAsync(File sessionDir) {
+        if (sessionDir == null) {
+            return;
+        }
+        Runnable cleanup = () -> {
+            // Growth of the copy over its cloned size approximates what the session wrote to disk
+            long finalSize = sizeOf(sessionDir.toPath());
+            Long initialSize = initialSizes.remove(sessionDir);
+            if (initialSize != null) {
+                sessionGrowthBytes.add(Math.max(0, finalSize - initialSize));
+            }
+            try {
+                deleteRecursively(sessionDir.toPath());
+                logger.debug("Deleted browser profile copy {} ({} KB)", sessionDir, finalSize / 1024);
+            } catch (IOException e) {
+                logger.warn("Failed to delete browser profile copy {}: {}", sessionDir, e.getMessage());
+            }
+        };
+        if (cleanupExecutor.isShutdown()) {
+            cleanup.run();
+        } else {
+            cleanupExecutor.execute(cleanup);
+        }
+    }
+
+    // Waits for pending deletions and adds the per-session profile cost to the report
+    public static void publishSummary() {
+        cleanupExecutor.shutdown();
+        try {
+            if (!cleanupExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
+                logger.warn("Browser profile cleanup did not finish within 60 s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long count = sessions.sum();
+        if (count > 0) {
+            ExtentManager.getInstance().setSystemInfo("Browser profile", String.format(
+                    "template mode, %d sessions, avg clone %.1f MB in %d ms, avg %.1f MB written per session",
+                    count, cloneBytes.sum() / (double) count / 1048576.0, cloneMillis.sum() / count,
+                    sessionGrowthBytes.sum() / (double) count / 1048576.0));
+        }
+        // Published for both modes so runs with and without -Dprofile.mode=template can be compared
+        firstNavigations.forEach((mode, totals) -> {
+            long navigations = totals[0].sum();
+            String summary = String.format("%d sessions, avg time to interactive %d ms", navigations, totals[1].sum() / navigations);
+            logger.info("First navigation per session (profile mode {}): {}", mode, summary);
+            ExtentManager.getInstance().setSystemInfo("Browser profile first navigation [" + mode + "]", summary);
+        });
+    }
+
+    private static void ensureWarm(ChromeOptions baseOptions) {
+        synchronized (templateLock) {
+            boolean refresh = Boolean.parseBoolean(System.getProperty("profile.template.refresh", "false"));
+            if (WARM_MARKER.exists() && !refresh) {
+                return;
+            }
+            try {
+                if (TEMPLATE_DIR.exists()) {
+                    deleteRecursively(TEMPLATE_DIR.toPath());
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to reset browser profile template", e);
+            }
+            List<String> warmupUrls = Arrays.stream(System.getProperty("profile.warmup.urls",
+                            "https://www.amazon.com,https://www.google.com").split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .toList();
+
+            logger.info("Warming browser profile template {} with {}", TEMPLATE_DIR, warmupUrls);
+            long start = System.nanoTime();
+            ChromeOptions warmupOptions = baseOptions.merge(new ChromeOptions());
+            warmupOptions.addArguments("--user-data-dir=" + TEMPLATE_DIR.getAbsolutePath());
+            WebDriver warmupDriver = new ChromeDriver(warmupOptions);
+            ProcessRegistry.register(warmupDriver);
+            try {
+                for (String url : warmupUrls) {
+                    try {
+                        warmupDriver.get(url);
+                    } catch (Exception e) {
+                        logger.warn("Profile warm-up navigation to {} failed: {}", url, e.getMessage());
+                    }
+                }
+            } finally {
+                ProcessRegistry.release(warmupDriver);
+                warmupDriver.quit();
+            }
+            try {
+                Files.writeString(WARM_MARKER.toPath(), String.valueOf(System.currentTimeMillis()));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to mark browser profile template as warm", e);
+            }
+            System.clearProperty("profile.template.refresh");
+            logger.info("Browser profile template warmed in {} ms", Duration.ofNanos(System.nanoTime() - start).toMillis());
+        }
+    }
+
+    // Hard links are deliberately not used: Chrome rewrites SQLite and cache index files in place,
+    // which would leak every session's writes back into the shared template
+    private static String cloneTemplate(Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        if (reflinkSupported == null || reflinkSupported) {
+            boolean cloned = reflinkCopy(target);
+            if (reflinkSupported == null) {
+                reflinkSupported = cloned;
+                logger.info("Reflink cloning {}supported for {}", cloned ? "" : "not ", ROOT_DIR);
+            }
+            if (cloned) {
+                removeLockFiles(target);
+                return "reflink";
+            }
+        }
+        copyRecursively(TEMPLATE_DIR.toPath(), target);
+        return "copy";
+    }
+
+    private static boolean reflinkCopy(Path target) {
+        try {
+            Process process = new ProcessBuilder("cp", "-a", "--reflink=always",
+                    TEMPLATE_DIR.getAbsolutePath(), target.toAbsolutePath().toString())
+                    .redirectErrorStream(true)
+                    .start();
+            process.getInputStream().readAllBytes();
+            if (process.waitFor() == 0) {
+                return true;
+            }
+            if (Files.exists(target)) {
+                deleteRecursively(target);
+            }
+        } catch (IOException e) {
+            logger.debug("Reflink copy unavailable: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private static void copyRecursively(Path source, Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                String name = file.getFileName().toString();
+                if (!LOCK_FILES.contains(name) && !name.equals(WARM_MARKER.getName())) {
+                    Files.copy(file, target.resolve(source.relativize(file)),
+                            StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void removeLockFiles(Path target) throws IOException {
+        for (String name : LOCK_FILES) {
+            Files.deleteIfExists(target.resolve(name));
+        }
+        Files.deleteIfExists(target.resolve(WARM_MARKER.getName()));
+    }
+
+    private static long sizeOf(Path dir) {
+        if (!Files.exists(dir)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).mapToLong(p -> p.toFile().length()).sum();
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted((a, b) -> b.compareTo(a)).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.automation.retry;
+
+import com.automation.utils.ExtentManager;
+import com.aventstack.extentreports.ExtentTest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pass/fail history and flakiness scores per test method. A method whose score over its recorded runs reaches
+ * flaky.quarantine.threshold (default 0.3, after at least flaky.min.runs runs) is quarantined for the run: it is
+ * scheduled in its own lane after all other tests, is not retried, and the lane is reported separately. A failure
+ * in the lane still fails the build unless -Dflaky.quarantine.nonblocking=true reports it as a skip. Its outcome
+ * goes into the history either way, so it leaves quarantine once it runs stably again.
+ */
+public class Flakiness {
+
+    private static final Logger logger = LoggerFactory.getLogger(Flakiness.class);
+    private static final boolean QUARANTINE = Boolean.parseBoolean(System.getProperty("flaky.quarantine", "true"));
+    private static final double THRESHOLD = Double.parseDouble(System.getProperty("flaky.quarantine.threshold", "0.3"));
+    private static final boolean NON_BLOCKING =
+            Boolean.parseBoolean(System.getProperty("flaky.quarantine.nonblocking", "false"));
+    private static final String LANE_CATEGORY = "Quarantine lane";
+    private static final int MIN_RUNS = Integer.parseInt(System.getProperty("flaky.min.runs", "5"));
+    private static final String QUARANTINED_FAILURE_ATTRIBUTE = "automation.quarantined.failure";
+
+    private static final TestHistory history = TestHistory.load();
+    // Decided from the history as it was at start-up, so the lane does not change mid-run
+    private static final Map<String, Double> quarantined = new ConcurrentHashMap<>();
+    private static final Map<String, List<String>> outcomesThisRun = new ConcurrentHashMap<>();
+
+    static {
+        if (QUARANTINE) {
+            history.methods().forEach(method -> {
+                List<String> runs = history.outcomes(method);
+                double score = TestHistory.score(runs);
+                if (runs.size() >= MIN_RUNS && score >= THRESHOLD) {
+                    quarantined.put(method, score);
+                }
+            });
+        }
+    }
+
+    private Flakiness() {
+    }
+
+    public static boolean isQuarantined(ITestNGMethod method) {
+        return quarantined.containsKey(method.getQualifiedName());
+    }
+
+    // Quarantined methods run in their own lane after the rest of the suite
+    public static List<IMethodInstance> quarantineLast(List<IMethodInstance> methods) {
+        List<IMethodInstance> ordered = new ArrayList<>();
+        List<IMethodInstance> lane = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            (isQuarantined(instance.getMethod()) ? lane : ordered).add(instance);
+        }
+        if (!lane.isEmpty()) {
+            logger.info("Running {} quarantined flaky tests last: {}", lane.size(),
+                    lane.stream().map(instance -> instance.getMethod().getQualifiedName()).distinct().toList());
+        }
+        ordered.addAll(lane);
+        return ordered;
+    }
+
+    // Files the running test's report under the quarantine lane, so the lane can be filtered in the report
+    public static void markLane(ITestResult result) {
+        ExtentTest test = ExtentManager.getTest();
+        if (test != null && isQuarantined(result.getMethod())) {
+            test.assignCategory(LANE_CATEGORY);
+        }
+    }
+
+    /**
+     * With flaky.quarantine.nonblocking, turns the failure of a quarantined test into a skip carrying the original
+     * failure. Returns true when it did; the outcome is still recorded as a failure.
+     */
+    public static boolean quarantineFailure(ITestResult result) {
+        Double score = quarantined.get(result.getMethod().getQualifiedName());
+        if (!NON_BLOCKING || score == null || result.getStatus() != ITestResult.FAILURE) {
+            return false;
+        }
+        Throwable failure = result.getThrowable();
+        result.setAttribute(QUARANTINED_FAILURE_ATTRIBUTE, true);
+        result.setStatus(ITestResult.SKIP);
+        result.setThrowable(new SkipException(String.format("Quarantined flaky test (score %.2f) failed: %s", score,
+                failure == null ? "no failure details" : failure.getMessage()), failure));
+        return true;
+    }
+
+    // Called by TestListener with each final result; attempts that are retried are not outcomes yet
+    public static void record(ITestResult result) {
+        if (result.wasRetried()) {
+            return;
+        }
+        String outcome = null;
+        if (result.getStatus() == ITestResult.SUCCESS) {
+            outcome = RetryAnalyzer.retriesSoFar(result) > 0 ? TestHistory.FLAKY : TestHistory.PASS;
+        } else if (result.getStatus() == ITestResult.FAILURE
+                || Boolean.TRUE.equals(result.getAttribute(QUARANTINED_FAILURE_ATTRIBUTE))) {
+            outcome = TestHistory.FAIL;
+        }
+        RetryAnalyzer.finished(result);
+        if (outcome == null) {
+            return; // Skipped for another reason, e.g. an open driver circuit breaker
+        }
+        String method = result.getMethod() == null ? null : result.getMethod().getQualifiedName();
+        if (method == null) {
+            return; // Synthetic results, e.g. from benchmarks, have no method to keep a history for
+        }
+        outcomesThisRun.computeIfAbsent(method, m -> new ArrayList<>()).add(outcome);
+        history.add(method, outcome);
+        if (TestHistory.FLAKY.equals(outcome)) {
+            logger.warn("{} passed only after a retry", method);
+        }
+    }
+
+    // Methods that were not clean passes this run or are flaky over their history, then the history is saved
+    public static void publishSummary() {
+        Set<String> methods = new TreeSet<>(quarantined.keySet());
+        outcomesThisRun.forEach((method, outcomes) -> {
+            if (!outcomes.stream().allMatch(TestHistory.PASS::equals) || TestHistory.score(history.outcomes(method)) > 0) {
+                methods.add(method);
+            }
+        });
+        if (!methods.isEmpty()) {
+            List<String[]> rows = new ArrayList<>();
+            rows.add(new String[]{"Test", "This run", "Runs", "Passed", "Failed", "Passed on retry", "Flakiness", "Quarantined"});
+            for (String method : methods) {
+                List<String> runs = history.outcomes(method);
+                rows.add(new String[]{method,
+                        String.join(", ", outcomesThisRun.getOrDefault(method, List.of("not run"))),
+                        String.valueOf(runs.size()), count(runs, TestHistory.PASS), count(runs, TestHistory.FAIL),
+                        count(runs, TestHistory.FLAKY), String.format("%.2f", TestHistory.score(runs)),
+                        quarantined.containsKey(method) ? "yes" : "no"});
+            }
+            ExtentManager.addSummaryTable("Flaky Tests", "Outcomes over the last runs; tests scoring "
+                    + THRESHOLD + " or more after " + MIN_RUNS + " runs are quarantined", rows.toArray(new String[0][]));
+        }
+        publishLane();
+        history.save();
+    }
+
+    // The quarantine lane on its own, so its failures are seen apart from the rest of the suite
+    private static void publishLane() {
+        if (quarantined.isEmpty()) {
+            return;
+        }
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Test", "Flakiness", "This run"});
+        long failed = 0;
+        for (String method : new TreeSet<>(quarantined.keySet())) {
+            List<String> outcomes = outcomesThisRun.getOrDefault(method, List.of("not run"));
+            failed += outcomes.stream().filter(TestHistory.FAIL::equals).count();
+            rows.add(new String[]{method, String.format("%.2f", quarantined.get(method)), String.join(", ", outcomes)});
+        }
+        ExtentManager.addSummaryTable("Quarantine Lane", quarantined.size() + " quarantined tests ran last, "
+                + failed + " failed" + (NON_BLOCKING ? "; failures were reported as skips" : "; failures fail the build"),
+                rows.toArray(new String[0][]));
+        logger.info("Quarantine lane: {} tests, {} failed", quarantined.size(), failed);
+    }
+
+    private static String count(List<String> runs, String outcome) {
+        return String.valueOf(runs.stream().filter(outcome::equals).count());
+    }
+}
@@ -0,0 +1,70 @@
+package com.automation.retry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Retries a failed test up to retry.max times (default 1, 0 disables). TestListener attaches it to every test
+ * that does not declare its own analyzer. Quarantined tests are not retried; see Flakiness.
+ */
+public class RetryAnalyzer implements IRetryAnalyzer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryAnalyzer.class);
+    private static final int MAX_RETRIES = Integer.parseInt(System.getProperty("retry.max", "1"));
+    private static final String DECISION_ATTRIBUTE = "automation.retry.decision";
+
+    private static final Map<String, Integer> retries = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean retry(ITestResult result) {
+        if (!willRetry(result)) {
+            return false;
+        }
+        int retry = retries.merge(key(result), 1, Integer::sum);
+        Throwable throwable = result.getThrowable();
+        logger.warn("Retrying {} (retry {} of {}) after: {}", key(result), retry, MAX_RETRIES,
+                throwable == null ? "failure" : throwable.getMessage());
+        return true;
+    }
+
+    /**
+     * Whether this failed result will be retried. The answer is stored on the result, so BaseTest.tearDown and
+     * TestNG's call to retry agree whichever of them asks first.
+     */
+    public static boolean willRetry(ITestResult result) {
+        if (result.getAttribute(DECISION_ATTRIBUTE) instanceof Boolean decision) {
+            return decision;
+        }
+        boolean retry = MAX_RETRIES > 0
+                && result.getStatus() == ITestResult.FAILURE
+                && !(result.getThrowable() instanceof SkipException)
+                && result.getMethod().getRetryAnalyzer(result) instanceof RetryAnalyzer
+                && !Flakiness.isQuarantined(result.getMethod())
+                && retries.getOrDefault(key(result), 0) < MAX_RETRIES;
+        result.setAttribute(DECISION_ATTRIBUTE, retry);
+        return retry;
+    }
+
+    // Number of retries that led to this attempt, 0 for the first run
+    public static int retriesSoFar(ITestResult result) {
+        return retries.getOrDefault(key(result), 0);
+    }
+
+    static void finished(ITestResult result) {
+        retries.remove(key(result));
+    }
+
+    // All attempts of one invocation share the test instance, method and parameters
+    public static String key(ITestResult result) {
+        String key = result.getMethod().getQualifiedName() + "@" + Integer.toHexString(System.identityHashCode(result.getInstance()));
+        Object[] parameters = result.getParameters();
+        return parameters == null || parameters.length == 0 ? key : key + Arrays.deepToString(parameters);
+    }
+}
@@ -0,0 +1,96 @@
+package com.automation.retry;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Final outcome of each test method in previous runs, kept in reports/retry/test-history.json. Each method keeps
+ * its last flaky.history.size outcomes: pass, fail, or flaky when it only passed after a retry.
+ */
+class TestHistory {
+
+    static final String PASS = "pass";
+    static final String FAIL = "fail";
+    static final String FLAKY = "flaky";
+
+    private static final Logger logger = LoggerFactory.getLogger(TestHistory.class);
+    private static final File HISTORY_FILE = new File("reports/retry/test-history.json");
+    private static final int MAX_RUNS = Integer.parseInt(System.getProperty("flaky.history.size", "30"));
+
+    private final Map<String, List<String>> outcomes;
+
+    private TestHistory(Map<String, List<String>> outcomes) {
+        this.outcomes = outcomes;
+    }
+
+    static TestHistory load() {
+        if (!HISTORY_FILE.exists()) {
+            return new TestHistory(new TreeMap<>());
+        }
+        try {
+            return new TestHistory(new TreeMap<>(new ObjectMapper().readValue(HISTORY_FILE,
+                    new TypeReference<Map<String, List<String>>>() {
+                    })));
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable test history {}: {}", HISTORY_FILE.getPath(), e.getMessage());
+            return new TestHistory(new TreeMap<>());
+        }
+    }
+
+    synchronized Set<String> methods() {
+        return Set.copyOf(outcomes.keySet());
+    }
+
+    synchronized List<String> outcomes(String method) {
+        return List.copyOf(outcomes.getOrDefault(method, List.of()));
+    }
+
+    synchronized void add(String method, String outcome) {
+        List<String> runs = outcomes.computeIfAbsent(method, m -> new ArrayList<>());
+        runs.add(outcome);
+        while (runs.size() > MAX_RUNS) {
+            runs.remove(0);
+        }
+    }
+
+    /**
+     * 0 for a method that always passes or always fails, towards 1 the more often it only passed on retry or
+     * flipped between passing and failing from one run to the next.
+     */
+    static double score(List<String> runs) {
+        if (runs.size() < 2) {
+            return 0;
+        }
+        long flaky = runs.stream().filter(FLAKY::equals).count();
+        int flips = 0;
+        for (int i = 1; i < runs.size(); i++) {
+            if (FAIL.equals(runs.get(i)) != FAIL.equals(runs.get(i - 1))) {
+                flips++;
+            }
+        }
+        return Math.max((double) flaky / runs.size(), (double) flips / (runs.size() - 1));
+    }
+
+    synchronized void save() {
+        File dir = HISTORY_FILE.getParentFile();
+        if (!dir.exists() && !dir.mkdirs()) {
+            logger.warn("Failed to create test history directory: {}", dir.getPath());
+            return;
+        }
+        try {
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(HISTORY_FILE, outcomes);
+        } catch (IOException e) {
+            logger.warn("Failed to write test history: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.automation.session;
+
+import com.automation.session.SessionSnapshot.StoredCookie;
+import com.automation.utils.ExtentManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Logs in once per credential set and restores the resulting cookies and web storage into new sessions.
+ * Snapshots hold live session tokens - keep the cache directory out of version control.
+ */
+public class SessionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionCache.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final String CACHE_DIR = System.getProperty("session.cache.dir", "target/session-cache/");
+    private static final Duration TTL = Duration.ofMinutes(Long.parseLong(System.getProperty("session.cache.ttl.minutes", "60")));
+    private static final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    // Seeds storage for the snapshot origin without overwriting values the application has written since
+    private static final String STORAGE_SEED_SCRIPT =
+            "(function (origin, local, session) {" +
+            "  if (location.origin !== origin) { return; }" +
+            "  Object.keys(local).forEach(function (k) { if (localStorage.getItem(k) === null) { localStorage.setItem(k, local[k]); } });" +
+            "  Object.keys(session).forEach(function (k) { if (sessionStorage.getItem(k) === null) { sessionStorage.setItem(k, session[k]); } });" +
+            "})(%s, %s, %s);";
+
+    private static final String STORAGE_CAPTURE_SCRIPT =
+            "var local = {}, session = {};" +
+            "for (var i = 0; i < localStorage.length; i++) { var k = localStorage.key(i); local[k] = localStorage.getItem(k); }" +
+            "for (var j = 0; j < sessionStorage.length; j++) { var s = sessionStorage.key(j); session[s] = sessionStorage.getItem(s); }" +
+            "return [local, session];";
+
+    private SessionCache() {
+    }
+
+    // The password is part of the key so a changed or wrong password never restores another login's session
+    public static String keyFor(String site, String username, String password) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest((username + '\0' + password).getBytes(StandardCharsets.UTF_8));
+            return site + "-" + HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Restores a cached session for the key or performs the UI login once and caches it. The restored state
+     * is validated with isSignedIn after navigating; an invalid or expired snapshot is refreshed by logging in again.
+     */
+    public static void establish(WebDriver driver, String key, String origin, Runnable navigate,
+                                 BooleanSupplier isSignedIn, Runnable login) {
+        SessionSnapshot cached = load(key);
+        if (cached != null && tryRestore(driver, key, cached, navigate, isSignedIn)) {
+            return;
+        }
+
+        // Only one thread logs in per credential set; the others wait and reuse its snapshot
+        ReentrantLock lock = locks.computeIfAbsent(key, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            SessionSnapshot latest = load(key);
+            if (latest != null && (cached == null || latest.getCreatedAt() != cached.getCreatedAt())
+                    && tryRestore(driver, key, latest, navigate, isSignedIn)) {
+                return;
+            }
+            delete(key);
+            driver.manage().deleteAllCookies();
+            navigate.run();
+            long start = System.nanoTime();
+            login.run();
+            if (!isSignedIn.getAsBoolean()) {
+                logger.warn("Login for session '{}' did not produce a signed-in state, snapshot not cached", key);
+                ExtentManager.logWarning("Login did not produce a signed-in state, session snapshot not cached");
+                return;
+            }
+            capture(driver, key, origin);
+            logger.info("Logged in and cached session '{}' in {} ms", key, Duration.ofNanos(System.nanoTime() - start).toMillis());
+            ExtentManager.logInfo("Logged in via UI and cached session snapshot for reuse");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean tryRestore(WebDriver driver, String key, SessionSnapshot snapshot,
+                                      Runnable navigate, BooleanSupplier isSignedIn) {
+        if (snapshot.isExpired(TTL)) {
+            logger.info("Session snapshot '{}' expired, refreshing", key);
+            return false;
+        }
+        restore(driver, snapshot);
+        navigate.run();
+        if (isSignedIn.getAsBoolean()) {
+            logger.info("Restored session '{}' from snapshot", key);
+            ExtentManager.logInfo("Restored authenticated session from snapshot");
+            return true;
+        }
+        logger.info("Session snapshot '{}' no longer valid, refreshing", key);
+        ExtentManager.logWarning("Cached session snapshot is no longer valid, logging in again");
+        driver.manage().deleteAllCookies();
+        return false;
+    }
+
+    public static void capture(WebDriver driver, String key, String origin) {
+        SessionSnapshot snapshot = new SessionSnapshot();
+        snapshot.setOrigin(origin);
+        snapshot.setCreatedAt(System.currentTimeMillis());
+        snapshot.setCookies(captureCookies(driver));
+
+        List<?> storage = (List<?>) ((JavascriptExecutor) driver).executeScript(STORAGE_CAPTURE_SCRIPT);
+        snapshot.setLocalStorage(toStringMap(storage.get(0)));
+        snapshot.setSessionStorage(toStringMap(storage.get(1)));
+
+        File file = fileFor(key);
+        File dir = file.getParentFile();
+        if (!dir.exists() && !dir.mkdirs()) {
+            logger.warn("Failed to create session cache directory: {}", dir);
+        }
+        try {
+            // Write and rename so a parallel reader never sees a half written snapshot
+            File temp = new File(dir, file.getName() + ".tmp");
+            mapper.writerWithDefaultPrettyPrinter().writeValue(temp, snapshot);
+            if (!temp.renameTo(file)) {
+                mapper.writerWithDefaultPrettyPrinter().writeValue(file, snapshot);
+                temp.delete();
+            }
+            logger.info("Saved session snapshot '{}' with {} cookies", key, snapshot.getCookies().size());
+        } catch (IOException e) {
+            logger.warn("Failed to save session snapshot '{}': {}", key, e.getMessage());
+        }
+    }
+
+    // Restores state before the first navigation via CDP; other browsers need one hop to the origin first
+    public static void restore(WebDriver driver, SessionSnapshot snapshot) {
+        List<StoredCookie> cookies = unexpiredCookies(snapshot);
+        if (driver instanceof HasCdp cdp) {
+            List<Map<String, Object>> cookieParams = new ArrayList<>();
+            for (StoredCookie cookie : cookies) {
+                Map<String, Object> param = new HashMap<>();
+                param.put("name", cookie.getName());
+                param.put("value", cookie.getValue());
+                param.put("domain", cookie.getDomain());
+                param.put("path", cookie.getPath() != null ? cookie.getPath() : "/");
+                param.put("secure", cookie.isSecure());
+                param.put("httpOnly", cookie.isHttpOnly());
+                if (cookie.getExpiry() != null) {
+                    param.put("expires", cookie.getExpiry());
+                }
+                if (cookie.getSameSite() != null) {
+                    param.put("sameSite", cookie.getSameSite());
+                }
+                cookieParams.add(param);
+            }
+            cdp.executeCdpCommand("Network.enable", Map.of());
+            cdp.executeCdpCommand("Network.setCookies", Map.of("cookies", cookieParams));
+            if (!snapshot.getLocalStorage().isEmpty() || !snapshot.getSessionStorage().isEmpty()) {
+                cdp.executeCdpCommand("Page.enable", Map.of());
+                cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", storageSeedScript(snapshot)));
+            }
+            return;
+        }
+
+        driver.get(snapshot.getOrigin());
+        for (StoredCookie cookie : cookies) {
+            try {
+                driver.manage().addCookie(new Cookie.Builder(cookie.getName(), cookie.getValue())
+                        .domain(cookie.getDomain())
+                        .path(cookie.getPath() != null ? cookie.getPath() : "/")
+                        .expiresOn(cookie.getExpiry() != null ? new Date(cookie.getExpiry() * 1000) : null)
+                        .isSecure(cookie.isSecure())
+                        .isHttpOnly(cookie.isHttpOnly())
+                        .sameSite(cookie.getSameSite())
+                        .build());
+            } catch (Exception e) {
+                // Cookies for other domains cannot be added from this origin
+                logger.debug("Skipped cookie {} for {}: {}", cookie.getName(), cookie.getDomain(), e.getMessage());
+            }
+        }
+        ((JavascriptExecutor) driver).executeScript(storageSeedScript(snapshot));
+    }
+
+    private static List<StoredCookie> unexpiredCookies(SessionSnapshot snapshot) {
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        return snapshot.getCookies().stream()
+                .filter(cookie -> cookie.getExpiry() == null || cookie.getExpiry() > nowSeconds)
+                .toList();
+    }
+
+    public static void delete(String key) {
+        File file = fileFor(key);
+        if (file.exists() && !file.delete()) {
+            logger.warn("Failed to delete session snapshot: {}", file);
+        }
+    }
+
+    private static SessionSnapshot load(String key) {
+        File file = fileFor(key);
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            return mapper.readValue(file, SessionSnapshot.class);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable session snapshot '{}': {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<StoredCookie> captureCookies(WebDriver driver) {
+        List<StoredCookie> cookies = new ArrayList<>();
+        if (driver instanceof HasCdp cdp) {
+            // Network.getAllCookies also returns cookies of the sign-in domains, not just the current page
+            Object all = cdp.executeCdpCommand("Network.getAllCookies", Map.of()).get("cookies");
+            for (Object item : (List<?>) all) {
+                Map<?, ?> raw = (Map<?, ?>) item;
+                StoredCookie cookie = new StoredCookie();
+                cookie.setName((String) raw.get("name"));
+                cookie.setValue((String) raw.get("value"));
+                cookie.setDomain((String) raw.get("domain"));
+                cookie.setPath((String) raw.get("path"));
+                cookie.setSecure(Boolean.TRUE.equals(raw.get("secure")));
+                cookie.setHttpOnly(Boolean.TRUE.equals(raw.get("httpOnly")));
+                cookie.setSameSite((String) raw.get("sameSite"));
+                if (!Boolean.TRUE.equals(raw.get("session")) && raw.get("expires") instanceof Number expires) {
+                    cookie.setExpiry(expires.longValue());
+                }
+                cookies.add(cookie);
+            }
+            return cookies;
+        }
+        for (Cookie seleniumCookie : driver.manage().getCookies()) {
+            StoredCookie cookie = new StoredCookie();
+            cookie.setName(seleniumCookie.getName());
+            cookie.setValue(seleniumCookie.getValue());
+            cookie.setDomain(seleniumCookie.getDomain());
+            cookie.setPath(seleniumCookie.getPath());
+            cookie.setSecure(seleniumCookie.isSecure());
+            cookie.setHttpOnly(seleniumCookie.isHttpOnly());
+            cookie.setSameSite(seleniumCookie.getSameSite());
+            if (seleniumCookie.getExpiry() != null) {
+                cookie.setExpiry(seleniumCookie.getExpiry().getTime() / 1000);
+            }
+            cookies.add(cookie);
+        }
+        return cookies;
+    }
+
+    private static String storageSeedScript(SessionSnapshot snapshot) {
+        try {
+            return String.format(STORAGE_SEED_SCRIPT,
+                    mapper.writeValueAsString(snapshot.getOrigin()),
+                    mapper.writeValueAsString(snapshot.getLocalStorage()),
+                    mapper.writeValueAsString(snapshot.getSessionStorage()));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialise web storage", e);
+        }
+    }
+
+    private static Map<String, String> toStringMap(Object value) {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (value instanceof Map<?, ?> map) {
+            map.forEach((k, v) -> result.put(String.valueOf(k), String.valueOf(v)));
+        }
+        return result;
+    }
+
+    private static File fileFor(String key) {
+        return new File(CACHE_DIR, key + ".json");
+    }
+}
@@ -0,0 +1,145 @@
+package com.automation.session;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serialisable browser state of an authenticated session: cookies plus localStorage and
+ * sessionStorage of the origin the snapshot was taken on.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SessionSnapshot {
+
+    private String origin;
+    private long createdAt;
+    private List<StoredCookie> cookies = new ArrayList<>();
+    private Map<String, String> localStorage = new LinkedHashMap<>();
+    private Map<String, String> sessionStorage = new LinkedHashMap<>();
+
+    // Only the age counts: sites set short-lived tracking cookies, so an expired cookie says nothing about the
+    // login. Expired cookies are left out on restore and SessionCache checks the restored session is signed in.
+    public boolean isExpired(Duration ttl) {
+        return System.currentTimeMillis() - createdAt > ttl.toMillis();
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(long createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public List<StoredCookie> getCookies() {
+        return cookies;
+    }
+
+    public void setCookies(List<StoredCookie> cookies) {
+        this.cookies = cookies;
+    }
+
+    public Map<String, String> getLocalStorage() {
+        return localStorage;
+    }
+
+    public void setLocalStorage(Map<String, String> localStorage) {
+        this.localStorage = localStorage;
+    }
+
+    public Map<String, String> getSessionStorage() {
+        return sessionStorage;
+    }
+
+    public void setSessionStorage(Map<String, String> sessionStorage) {
+        this.sessionStorage = sessionStorage;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class StoredCookie {
+        private String name;
+        private String value;
+        private String domain;
+        private String path;
+        private Long expiry; // epoch seconds, null for session cookies
+        private boolean secure;
+        private boolean httpOnly;
+        private String sameSite;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public String getDomain() {
+            return domain;
+        }
+
+        public void setDomain(String domain) {
+            this.domain = domain;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public Long getExpiry() {
+            return expiry;
+        }
+
+        public void setExpiry(Long expiry) {
+            this.expiry = expiry;
+        }
+
+        public boolean isSecure() {
+            return secure;
+        }
+
+        public void setSecure(boolean secure) {
+            this.secure = secure;
+        }
+
+        public boolean isHttpOnly() {
+            return httpOnly;
+        }
+
+        public void setHttpOnly(boolean httpOnly) {
+            this.httpOnly = httpOnly;
+        }
+
+        public String getSameSite() {
+            return sameSite;
+        }
+
+        public void setSameSite(String sameSite) {
+            this.sameSite = sameSite;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.automation.steps;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Average step durations of previous suite runs, kept in reports/steps/step-history.json so timing trends
+ * survive between runs. Each step keeps its last step.history.size averages.
+ */
+class StepHistory {
+
+    private static final Logger logger = LoggerFactory.getLogger(StepHistory.class);
+    private static final File HISTORY_FILE = new File("reports/steps/step-history.json");
+    private static final int MAX_RUNS = Integer.parseInt(System.getProperty("step.history.size", "20"));
+
+    private final Map<String, List<Long>> averages;
+
+    private StepHistory(Map<String, List<Long>> averages) {
+        this.averages = averages;
+    }
+
+    static StepHistory load() {
+        if (!HISTORY_FILE.exists()) {
+            return new StepHistory(new TreeMap<>());
+        }
+        try {
+            return new StepHistory(new TreeMap<>(new ObjectMapper().readValue(HISTORY_FILE,
+                    new TypeReference<Map<String, List<Long>>>() {
+                    })));
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable step history {}: {}", HISTORY_FILE.getPath(), e.getMessage());
+            return new StepHistory(new TreeMap<>());
+        }
+    }
+
+    // Mean of the stored run averages, or -1 when the step has not run before
+    long previousAverage(String key) {
+        List<Long> runs = averages.get(key);
+        if (runs == null || runs.isEmpty()) {
+            return -1;
+        }
+        return Math.round(runs.stream().mapToLong(Long::longValue).average().orElse(0));
+    }
+
+    void add(String key, long averageMs) {
+        List<Long> runs = averages.computeIfAbsent(key, k -> new ArrayList<>());
+        runs.add(averageMs);
+        while (runs.size() > MAX_RUNS) {
+            runs.remove(0);
+        }
+    }
+
+    void save() {
+        File dir = HISTORY_FILE.getParentFile();
+        if (!dir.exists() && !dir.mkdirs()) {
+            logger.warn("Failed to create step history directory: {}", dir.getPath());
+            return;
+        }
+        try {
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(HISTORY_FILE, averages);
+        } catch (IOException e) {
+            logger.warn("Failed to write step history: {}", e.getMessage());
+        }
+    }
+}
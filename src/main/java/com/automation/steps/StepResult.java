@@ -0,0 +1,7 @@
+package com.automation.steps;
+
+/**
+ * Outcome of one step. Nested steps are named "parent › child".
+ */
+public record StepResult(String name, long startMillis, long durationMs, boolean passed, boolean slow, String error) {
+}
@@ -0,0 +1,144 @@
+package com.automation.steps;
+
+import com.automation.deadline.Deadline;
+import com.automation.utils.ExtentManager;
+import com.automation.utils.TestContext;
+import com.aventstack.extentreports.ExtentTest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Named, timed test steps. Each step becomes a nested report node with its duration and outcome; steps longer
+ * than step.slow.ms (default 10000) are flagged. Results are attached to the TestNG result under
+ * RESULT_ATTRIBUTE for listeners such as the synthetic monitor, and summarised per suite against the
+ * averages of previous runs.
+ */
+public class Steps {
+
+    public static final String RESULT_ATTRIBUTE = "automation.steps";
+
+    private static final Logger logger = LoggerFactory.getLogger(Steps.class);
+    private static final long SLOW_MS = Long.parseLong(System.getProperty("step.slow.ms", "10000"));
+
+    private static final ThreadLocal<Deque<String>> openSteps = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<List<StepResult>> results = ThreadLocal.withInitial(ArrayList::new);
+    private static final Map<String, Stats> suiteStats = new ConcurrentHashMap<>();
+
+    private Steps() {
+    }
+
+    public static void step(String name, Runnable action) {
+        step(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static <T> T step(String name, Supplier<T> action) {
+        Deadline.check("step", name);
+        Deque<String> open = openSteps.get();
+        String fullName = open.isEmpty() ? name : open.peek() + " › " + name;
+        open.push(fullName);
+        ExtentTest node = ExtentManager.startNode(name);
+        long startMillis = System.currentTimeMillis();
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return action.get();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            boolean slow = durationMs > SLOW_MS;
+            if (failure != null) {
+                ExtentManager.logFail("Step failed after " + durationMs + " ms: " + failure.getMessage());
+            } else if (slow) {
+                ExtentManager.logWarning("Slow step: " + durationMs + " ms (threshold " + SLOW_MS + " ms)");
+            } else {
+                ExtentManager.logPass("Completed in " + durationMs + " ms");
+            }
+            ExtentManager.endNode(node);
+            open.pop();
+            logger.debug("Step '{}' {} in {} ms", fullName, failure == null ? "passed" : "failed", durationMs);
+            record(new StepResult(fullName, startMillis, durationMs, failure == null, slow,
+                    failure == null ? null : failure.getClass().getSimpleName() + ": " + failure.getMessage()));
+        }
+    }
+
+    public static List<StepResult> getResults() {
+        return List.copyOf(results.get());
+    }
+
+    public static void clear() {
+        openSteps.remove();
+        results.remove();
+    }
+
+    private static void record(StepResult result) {
+        List<StepResult> testResults = results.get();
+        testResults.add(result);
+        ITestResult testResult = Reporter.getCurrentTestResult();
+        if (testResult != null) {
+            testResult.setAttribute(RESULT_ATTRIBUTE, List.copyOf(testResults));
+        }
+        suiteStats.computeIfAbsent(TestContext.getTestName() + " | " + result.name(), key -> new Stats()).add(result);
+    }
+
+    // Suite table with the change against previous runs, then this run's averages are appended to the history
+    public static void publishSummary() {
+        if (suiteStats.isEmpty()) {
+            return;
+        }
+        StepHistory history = StepHistory.load();
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Test", "Step", "Runs", "Failed", "Slow", "Avg ms", "Max ms", "Previous avg ms", "Change"});
+        new TreeMap<>(suiteStats).forEach((key, stats) -> {
+            String[] parts = key.split(" \\| ", 2);
+            long runs = stats.runs.sum();
+            long average = stats.totalMs.sum() / runs;
+            long previous = history.previousAverage(key);
+            String change = previous <= 0 ? "-" : String.format("%+d%%", Math.round(100.0 * (average - previous) / previous));
+            rows.add(new String[]{parts[0], parts[1], String.valueOf(runs), String.valueOf(stats.failed.sum()),
+                    String.valueOf(stats.slow.sum()), String.valueOf(average), String.valueOf(stats.maxMs.get()),
+                    previous < 0 ? "-" : String.valueOf(previous), change});
+            history.add(key, average);
+        });
+        history.save();
+        ExtentManager.addSummaryTable("Step Timing", "Step durations this run against previous runs (slow above "
+                + SLOW_MS + " ms)", rows.toArray(new String[0][]));
+    }
+
+    private static class Stats {
+        private final LongAdder runs = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+        private final LongAdder totalMs = new LongAdder();
+        private final LongAccumulator maxMs = new LongAccumulator(Math::max, 0);
+
+        void add(StepResult result) {
+            runs.increment();
+            if (!result.passed()) {
+                failed.increment();
+            }
+            if (result.slow()) {
+                slow.increment();
+            }
+            totalMs.add(result.durationMs());
+            maxMs.accumulate(result.durationMs());
+        }
+    }
+}
@@ -1,24 +1,44 @@
 package com.automation.utils;
 
+import com.automation.jfr.ReportWriteEvent;
+import com.automation.metrics.TimeLedger;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Deque;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
 
 public class ExtentManager {
     
     private static final Logger logger = LoggerFactory.getLogger(ExtentManager.class);
     private static volatile ExtentReports extent; // FIXED: Added volatile for thread safety
     private static final ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    // Open step nodes of the current test, innermost first; logging goes to the innermost one
+    private static final ThreadLocal<Deque<ExtentTest>> nodes = ThreadLocal.withInitial(ArrayDeque::new);
     private static final String REPORT_PATH = "reports/extent-reports/";
     private static final Object lock = new Object(); // FIXED: Added synchronization lock
+    // Switched off by runners that drive page objects outside TestNG, e.g. load mode with many virtual users
+    private static volatile boolean enabled = true;
+    
+    public static void setEnabled(boolean reportingEnabled) {
+        enabled = reportingEnabled;
+        logger.info("Per-test reporting {}", reportingEnabled ? "enabled" : "disabled");
+    }
+    
+    public static boolean isEnabled() {
+        return enabled;
+    }
     
     public static ExtentReports getInstance() {
         if (extent == null) {
@@ -69,6 +89,9 @@ public class ExtentManager {
     }
     
     public static synchronized ExtentTest createTest(String testName, String description) {
+        if (!enabled) {
+            return null;
+        }
         ExtentTest extentTest = getInstance().createTest(testName, description);
         test.set(extentTest);
         logger.info("Created test: {} - {} on thread: {}", testName, description, Thread.currentThread().getName());
@@ -80,6 +103,10 @@ public class ExtentManager {
     }
     
     public static ExtentTest getTest() {
+        ExtentTest currentNode = nodes.get().peek();
+        if (currentNode != null) {
+            return currentNode;
+        }
         ExtentTest currentTest = test.get();
         if (currentTest == null) {
             logger.warn("No ExtentTest found for current thread: {}", Thread.currentThread().getName());
@@ -89,14 +116,32 @@ public class ExtentManager {
         return currentTest;
     }
     
+    // Lets another thread, e.g. an async page command, log to the test or step that is current here
+    public static <T> Supplier<T> bind(Supplier<T> action) {
+        ExtentTest bound = nodes.get().peek() != null ? nodes.get().peek() : test.get();
+        return () -> {
+            ExtentTest previous = test.get();
+            test.set(bound);
+            try {
+                return action.get();
+            } finally {
+                test.set(previous);
+            }
+        };
+    }
+    
     public static void removeTest() {
         test.remove();
+        nodes.remove();
         logger.debug("Removed test from thread: {}", Thread.currentThread().getName());
     }
     
     public static synchronized void flush() {
         if (extent != null) {
+            ReportWriteEvent event = new ReportWriteEvent();
+            event.begin();
             extent.flush();
+            commitReportWrite(event, "flush", 0);
             logger.info("ExtentReports flushed successfully");
         }
     }
@@ -104,11 +149,12 @@ public class ExtentManager {
     // ===========================================================
     // Utility methods for logging - FIXED thread safety
     public static void logPass(String message) {
+        if (!enabled) {
+            return;
+        }
         ExtentTest currentTest = getTest();
         if (currentTest != null) {
-            synchronized (currentTest) {
-                currentTest.log(Status.PASS, message);
-            }
+            write(currentTest, Status.PASS, message);
             logger.info("✅ PASS: {}", message);
         } else {
             logger.warn("Cannot log PASS - no test context available: {}", message);
@@ -116,11 +162,12 @@ public class ExtentManager {
     }
     
     public static void logFail(String message) {
+        if (!enabled) {
+            return;
+        }
         ExtentTest currentTest = getTest();
         if (currentTest != null) {
-            synchronized (currentTest) {
-                currentTest.log(Status.FAIL, message);
-            }
+            write(currentTest, Status.FAIL, message);
             logger.error("❌ FAIL: {}", message);
         } else {
             logger.warn("Cannot log FAIL - no test context available: {}", message);
@@ -128,11 +175,12 @@ public class ExtentManager {
     }
     
     public static void logInfo(String message) {
+        if (!enabled) {
+            return;
+        }
         ExtentTest currentTest = getTest();
         if (currentTest != null) {
-            synchronized (currentTest) {
-                currentTest.log(Status.INFO, message);
-            }
+            write(currentTest, Status.INFO, message);
             logger.info("ℹ️ INFO: {}", message);
         } else {
             logger.warn("Cannot log INFO - no test context available: {}", message);
@@ -140,11 +188,12 @@ public class ExtentManager {
     }
     
     public static void logWarning(String message) {
+        if (!enabled) {
+            return;
+        }
         ExtentTest currentTest = getTest();
         if (currentTest != null) {
-            synchronized (currentTest) {
-                currentTest.log(Status.WARNING, message);
-            }
+            write(currentTest, Status.WARNING, message);
             logger.warn("⚠️ WARNING: {}", message);
         } else {
             logger.warn("Cannot log WARNING - no test context available: {}", message);
@@ -152,26 +201,108 @@ public class ExtentManager {
     }
     
     public static void logSkip(String message) {
+        if (!enabled) {
+            return;
+        }
         ExtentTest currentTest = getTest();
         if (currentTest != null) {
-            synchronized (currentTest) {
-                currentTest.log(Status.SKIP, message);
-            }
+            write(currentTest, Status.SKIP, message);
             logger.warn("⏭️ SKIP: {}", message);
         } else {
             logger.warn("Cannot log SKIP - no test context available: {}", message);
         }
     }
+    
+    // Raw HTML (charts, tables) for the current test; only a short note goes to the log file
+    public static void logHtml(String html) {
+        if (!enabled) {
+            return;
+        }
+        ExtentTest currentTest = getTest();
+        if (currentTest != null) {
+            write(currentTest, Status.INFO, html);
+            logger.debug("Added HTML block to test on thread: {}", Thread.currentThread().getName());
+        }
+    }
+    
+    public static void logTable(String[][] rows) {
+        logHtml(MarkupHelper.createTable(rows).getMarkup());
+    }
+    
+    private static void write(ExtentTest currentTest, Status status, String message) {
+        TimeLedger.begin(TimeLedger.Category.REPORT_IO);
+        try {
+            synchronized (currentTest) {
+                currentTest.log(status, message);
+            }
+        } finally {
+            TimeLedger.end();
+        }
+    }
+    
+    // Opens a child node under the current test or step; callers must close it with endNode in a finally block
+    public static ExtentTest startNode(String name) {
+        if (!enabled) {
+            return null;
+        }
+        ExtentTest parent = getTest();
+        ExtentTest node;
+        synchronized (parent) {
+            node = parent.createNode(name);
+        }
+        nodes.get().push(node);
+        return node;
+    }
+    
+    public static void endNode(ExtentTest node) {
+        if (node == null) {
+            return;
+        }
+        node.getModel().setEndTime(new Date());
+        nodes.get().remove(node);
+    }
     // ===========================================================
     
+    // Suite-level summaries get their own report node so they do not depend on the calling thread's test
+    public static synchronized ExtentTest addSummaryTable(String title, String description, String[][] rows) {
+        ReportWriteEvent event = new ReportWriteEvent();
+        event.begin();
+        ExtentTest summary = getInstance().createTest(title, description);
+        summary.log(Status.INFO, MarkupHelper.createTable(rows));
+        commitReportWrite(event, "summary:" + title, 0);
+        logger.info("Added summary '{}' with {} rows", title, rows.length - 1);
+        return summary;
+    }
+    
     public static void addScreenshot(String base64Screenshot, String description) {
+        if (!enabled) {
+            return;
+        }
         ExtentTest currentTest = getTest();
         if (currentTest != null) {
-            synchronized (currentTest) {
-                currentTest.addScreenCaptureFromBase64String(base64Screenshot, description);
+            ReportWriteEvent event = new ReportWriteEvent();
+            event.begin();
+            TimeLedger.begin(TimeLedger.Category.REPORT_IO);
+            try {
+                synchronized (currentTest) {
+                    currentTest.addScreenCaptureFromBase64String(base64Screenshot, description);
+                }
+            } finally {
+                TimeLedger.end();
             }
+            commitReportWrite(event, "screenshot", base64Screenshot.length());
         } else {
             logger.warn("Cannot add screenshot - no test context available");
         }
     }
+    
+    private static void commitReportWrite(ReportWriteEvent event, String operation, long bytes) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.test = TestContext.getTestName();
+            event.operation = operation;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.automation.utils;
+
+import java.util.function.Supplier;
+
+// Per-thread tags (running test, current page object) attached to metrics and reports
+public class TestContext {
+
+    private static final ThreadLocal<String> testName = new ThreadLocal<>();
+    private static final ThreadLocal<String> pageObject = new ThreadLocal<>();
+
+    private TestContext() {
+    }
+
+    public static void setTestName(String name) {
+        testName.set(name);
+    }
+
+    public static String getTestName() {
+        String name = testName.get();
+        return name != null ? name : "none";
+    }
+
+    public static void setPageObject(String name) {
+        pageObject.set(name);
+    }
+
+    public static String getPageObject() {
+        String name = pageObject.get();
+        return name != null ? name : "none";
+    }
+
+    // Carries the caller's tags to the thread that runs the action, e.g. an async page command
+    public static <T> Supplier<T> bind(Supplier<T> action) {
+        String boundTest = testName.get();
+        String boundPage = pageObject.get();
+        return () -> {
+            String previousTest = testName.get();
+            String previousPage = pageObject.get();
+            testName.set(boundTest);
+            pageObject.set(boundPage);
+            try {
+                return action.get();
+            } finally {
+                testName.set(previousTest);
+                pageObject.set(previousPage);
+            }
+        };
+    }
+
+    public static void clear() {
+        testName.remove();
+        pageObject.remove();
+    }
+}
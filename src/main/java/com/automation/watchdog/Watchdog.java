@@ -0,0 +1,243 @@
+package com.automation.watchdog;
+
+import com.automation.process.DriverProcesses;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Watches the driver activity of every running test. A test whose last driver command started or finished
+ * more than watchdog.stall.seconds ago (default 120) is treated as hung: the watchdog writes a thread dump and
+ * whatever browser state it can still get, kills the local driver process and its browsers, and interrupts
+ * the test thread. The blocked call then fails and BaseTest marks the test as failed with the stall report.
+ */
+public class Watchdog {
+
+    private static final Logger logger = LoggerFactory.getLogger(Watchdog.class);
+    private static final long STALL_NANOS = TimeUnit.SECONDS.toNanos(Long.parseLong(System.getProperty("watchdog.stall.seconds", "120")));
+    private static final long CHECK_SECONDS = Long.parseLong(System.getProperty("watchdog.check.seconds", "5"));
+    private static final long PROBE_SECONDS = 5;
+    private static final String WATCHDOG_PATH = "reports/watchdog/";
+
+    private static final Map<Thread, Watch> watches = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Watch> current = new ThreadLocal<>();
+    private static volatile ScheduledExecutorService scheduler;
+
+    // Browser probes can hang just like the test did, so they run on their own disposable daemon threads
+    private static final ExecutorService probes = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "watchdog-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final class Watch {
+        private final Thread thread = Thread.currentThread();
+        private final String test;
+        private final WebDriver driver;
+        private final int driverPort;
+        private volatile long lastActivityNanos = System.nanoTime();
+        private volatile String lastActivity = "session start";
+        private volatile String stallReport;
+
+        Watch(String test, WebDriver driver) {
+            this.test = test;
+            this.driver = driver;
+            this.driverPort = DriverProcesses.localPort(driver);
+        }
+    }
+
+    private Watchdog() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("watchdog", "true")) && STALL_NANOS > 0;
+    }
+
+    // Called on the test thread once its session is ready; the probe talks to the undecorated driver
+    public static void register(String test, WebDriver driver) {
+        if (!isEnabled()) {
+            return;
+        }
+        startScheduler();
+        WebDriver original = driver;
+        while (original instanceof WrapsDriver wrapper) {
+            original = wrapper.getWrappedDriver();
+        }
+        Watch watch = new Watch(test, original);
+        watches.put(watch.thread, watch);
+        current.set(watch);
+    }
+
+    public static void touch(String activity) {
+        Watch watch = current.get();
+        if (watch != null) {
+            watch.lastActivityNanos = System.nanoTime();
+            watch.lastActivity = activity;
+        }
+    }
+
+    // Driver commands the action issues on another thread, e.g. an async page command, count as the test's activity
+    public static <T> Supplier<T> bind(Supplier<T> action) {
+        Watch bound = current.get();
+        return () -> {
+            Watch previous = current.get();
+            current.set(bound);
+            try {
+                return action.get();
+            } finally {
+                current.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Returns the stall report if the watchdog recovered this thread's test, clearing the interrupt it used
+     * so teardown can run normally; null otherwise.
+     */
+    public static String consumeStallReport() {
+        Watch watch = current.get();
+        if (watch == null || watch.stallReport == null) {
+            return null;
+        }
+        Thread.interrupted();
+        return watch.stallReport;
+    }
+
+    public static void unregister() {
+        Watch watch = current.get();
+        if (watch != null) {
+            watches.remove(watch.thread);
+            current.remove();
+        }
+    }
+
+    private static void startScheduler() {
+        if (scheduler != null) {
+            return;
+        }
+        synchronized (Watchdog.class) {
+            if (scheduler == null) {
+                ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread thread = new Thread(r, "test-watchdog");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                executor.scheduleWithFixedDelay(Watchdog::checkAll, CHECK_SECONDS, CHECK_SECONDS, TimeUnit.SECONDS);
+                scheduler = executor;
+            }
+        }
+    }
+
+    private static void checkAll() {
+        long now = System.nanoTime();
+        for (Watch watch : watches.values()) {
+            long idle = now - watch.lastActivityNanos;
+            if (watch.stallReport == null && idle > STALL_NANOS) {
+                try {
+                    recover(watch, idle);
+                } catch (Exception e) {
+                    logger.error("Watchdog failed to recover {}: {}", watch.test, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private static void recover(Watch watch, long idleNanos) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+        String baseName = watch.test.replaceAll("[^A-Za-z0-9._-]", "_") + "-" + timestamp;
+        logger.error("Test {} stalled: no driver activity for {} s since '{}' on thread {}",
+                watch.test, TimeUnit.NANOSECONDS.toSeconds(idleNanos), watch.lastActivity, watch.thread.getName());
+
+        File threadDump = writeThreadDump(watch, baseName);
+        String browserState = probeBrowser(watch, baseName);
+        int killed = DriverProcesses.driverProcess(watch.driverPort).map(DriverProcesses::kill).orElse(0);
+
+        watch.stallReport = String.format("No driver activity for %d s after '%s'. Thread dump: %s. Browser: %s. "
+                        + "Killed %d driver/browser processes.", TimeUnit.NANOSECONDS.toSeconds(idleNanos),
+                watch.lastActivity, threadDump == null ? "unavailable" : threadDump.getPath(), browserState, killed);
+        // The test may have finished while the watchdog was probing; its thread then already runs another one
+        if (watches.get(watch.thread) == watch) {
+            watch.thread.interrupt();
+        }
+        logger.error("Recovered stalled test {}: {}", watch.test, watch.stallReport);
+    }
+
+    // Full stacks of every thread, stalled thread first; ThreadInfo.toString would cut them at eight frames
+    private static File writeThreadDump(Watch watch, String baseName) {
+        StringBuilder dump = new StringBuilder();
+        Map<Thread, StackTraceElement[]> stacks = Thread.getAllStackTraces();
+        appendThread(dump, watch.thread, stacks.getOrDefault(watch.thread, watch.thread.getStackTrace()));
+        stacks.forEach((thread, stack) -> {
+            if (thread != watch.thread) {
+                appendThread(dump, thread, stack);
+            }
+        });
+        File file = new File(directory(), baseName + "-threads.txt");
+        try {
+            Files.writeString(file.toPath(), dump);
+            return file;
+        } catch (IOException e) {
+            logger.warn("Failed to write thread dump: {}", e.getMessage());
+            logger.error("Thread dump:\n{}", dump);
+            return null;
+        }
+    }
+
+    private static void appendThread(StringBuilder dump, Thread thread, StackTraceElement[] stack) {
+        dump.append('"').append(thread.getName()).append("\" ").append(thread.getState())
+                .append(thread.isDaemon() ? " daemon" : "").append('\n');
+        for (StackTraceElement frame : stack) {
+            dump.append("    at ").append(frame).append('\n');
+        }
+        dump.append('\n');
+    }
+
+    // URL, title and a screenshot if the browser still answers within a few seconds
+    private static String probeBrowser(Watch watch, String baseName) {
+        if (watch.driver == null) {
+            return "no session";
+        }
+        Future<String> probe = probes.submit(() -> {
+            String url = watch.driver.getCurrentUrl();
+            String title = watch.driver.getTitle();
+            String state = "url=" + url + ", title=" + title;
+            if (watch.driver instanceof TakesScreenshot screenshotDriver) {
+                File screenshot = new File(directory(), baseName + ".png");
+                Files.write(screenshot.toPath(), screenshotDriver.getScreenshotAs(OutputType.BYTES));
+                state += ", screenshot=" + screenshot.getPath();
+            }
+            return state;
+        });
+        try {
+            return probe.get(PROBE_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            probe.cancel(true);
+            return "not responding (" + e.getClass().getSimpleName() + ")";
+        }
+    }
+
+    private static File directory() {
+        File dir = new File(WATCHDOG_PATH);
+        if (!dir.exists() && !dir.mkdirs()) {
+            logger.warn("Failed to create watchdog directory: {}", WATCHDOG_PATH);
+        }
+        return dir;
+    }
+}
@@ -0,0 +1,135 @@
+package com.automation.base;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class AsyncSessionTest {
+
+    // Only identity matters to AsyncSession; no command ever reaches this driver
+    private static WebDriver newDriver() {
+        return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(), new Class<?>[]{WebDriver.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubDriver";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void readStartsAfterEarlierAction() {
+        AsyncSession session = AsyncSession.of(newDriver());
+        List<String> order = new CopyOnWriteArrayList<>();
+        session.act(() -> {
+            sleep(100);
+            return order.add("click");
+        });
+        session.read(() -> order.add("read")).join();
+        Assert.assertEquals(order, List.of("click", "read"));
+    }
+
+    @Test
+    public void actionWaitsForEarlierReads() {
+        AsyncSession session = AsyncSession.of(newDriver());
+        List<String> order = new CopyOnWriteArrayList<>();
+        session.read(() -> {
+            sleep(100);
+            return order.add("read");
+        });
+        session.act(() -> order.add("click")).join();
+        Assert.assertEquals(order, List.of("read", "click"));
+    }
+
+    @Test
+    public void failedActionFailsCommandsIssuedWhileItRan() {
+        AsyncSession session = AsyncSession.of(newDriver());
+        session.act(() -> {
+            sleep(100);
+            throw new IllegalStateException("click failed");
+        });
+        CompletableFuture<Boolean> read = session.read(() -> true);
+        Assert.assertThrows(Exception.class, read::join);
+    }
+
+    @Test
+    public void commandsIssuedAfterAReportedFailureRun() {
+        AsyncSession session = AsyncSession.of(newDriver());
+        CompletableFuture<Boolean> click = session.act(() -> {
+            throw new IllegalStateException("click failed");
+        });
+        Assert.assertThrows(Exception.class, click::join);
+        Assert.assertTrue(session.read(() -> true).join());
+        Assert.assertTrue(session.act(() -> true).join());
+    }
+
+    @Test
+    public void closedSessionStartsAfresh() {
+        WebDriver driver = newDriver();
+        AsyncSession session = AsyncSession.of(driver);
+        AsyncSession.close(driver);
+        Assert.assertNotSame(AsyncSession.of(driver), session);
+    }
+
+    @Test
+    public void drainWaitsForOutstandingCommands() {
+        WebDriver driver = newDriver();
+        List<String> order = new CopyOnWriteArrayList<>();
+        AsyncSession.of(driver).act(() -> {
+            sleep(100);
+            return order.add("click");
+        });
+        AsyncSession.drain(driver);
+        order.add("sync read");
+        Assert.assertEquals(order, List.of("click", "sync read"));
+    }
+
+    @Test
+    public void drainIsInterruptible() throws Exception {
+        WebDriver driver = newDriver();
+        CountDownLatch hung = new CountDownLatch(1);
+        AsyncSession.of(driver).act(() -> {
+            try {
+                return hung.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread test = new Thread(() -> {
+            try {
+                AsyncSession.drain(driver);
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        test.start();
+        test.interrupt();
+        test.join(5_000);
+        hung.countDown();
+        Assert.assertFalse(test.isAlive(), "drain should return once interrupted");
+        Assert.assertTrue(failure.get() instanceof RuntimeException, "drain should fail with the interruption");
+    }
+
+    @Test
+    public void drainWithoutAsyncCommandsReturnsImmediately() {
+        AsyncSession.drain(newDriver());
+    }
+}
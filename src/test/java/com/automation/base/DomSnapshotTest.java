@@ -0,0 +1,97 @@
+package com.automation.base;
+
+import com.automation.metrics.CommandInstrumentation;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DomSnapshotTest {
+
+    private static final String HTML = """
+            <html><head><title>Results</title></head><body>
+              <input id="search" name="q" value="laptop">
+              <div class="result item"><h2><a href="/p/1">Laptop <span class="sr-only">sponsored</span></a></h2></div>
+              <div class="result item"><h2><a href="/p/2">Laptop stand</a></h2></div>
+              <div class="result"><h2></h2></div>
+              <a href="/next">Next page</a>
+            </body></html>""";
+
+    private final DomSnapshot snapshot = DomSnapshot.parse(HTML, "https://example.com/s?k=laptop", 0);
+
+    @Test
+    public void evaluatesEveryLocatorStrategy() {
+        Assert.assertEquals(snapshot.count(By.id("search")), 1);
+        Assert.assertEquals(snapshot.count(By.name("q")), 1);
+        Assert.assertEquals(snapshot.count(By.className("result")), 3);
+        Assert.assertEquals(snapshot.count(By.tagName("h2")), 3);
+        Assert.assertEquals(snapshot.count(By.cssSelector("div.result.item h2 a")), 2);
+        Assert.assertEquals(snapshot.count(By.xpath("//div[contains(@class,'item')]//a")), 2);
+        Assert.assertEquals(snapshot.count(By.linkText("Next page")), 1);
+        Assert.assertEquals(snapshot.count(By.partialLinkText("Laptop")), 2);
+    }
+
+    @Test
+    public void textIncludesHiddenDescendants() {
+        Assert.assertEquals(snapshot.texts(By.cssSelector("div.result h2")), List.of("Laptop sponsored", "Laptop stand", ""));
+        Assert.assertEquals(snapshot.text(By.cssSelector("h2 a")), "Laptop sponsored");
+        Assert.assertEquals(snapshot.text(By.id("missing")), "");
+    }
+
+    @Test
+    public void attributesAreReadFromTheMarkup() {
+        Assert.assertEquals(snapshot.attribute(By.id("search"), "value"), "laptop");
+        Assert.assertNull(snapshot.attribute(By.id("search"), "placeholder"));
+        Assert.assertNull(snapshot.attribute(By.id("missing"), "value"));
+        Assert.assertEquals(snapshot.getTitle(), "Results");
+        Assert.assertEquals(snapshot.getUrl(), "https://example.com/s?k=laptop");
+        Assert.assertTrue(snapshot.isPresent(By.linkText("Next page")));
+        Assert.assertFalse(snapshot.isPresent(By.linkText("Next")));
+    }
+
+    @Test
+    public void rejectsInvalidSelectors() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> snapshot.select(By.cssSelector("div[")));
+    }
+
+    @Test
+    public void undecoratedDriverIsFetchedOnEveryRead() {
+        AtomicInteger fetches = new AtomicInteger();
+        WebDriver driver = stubDriver(fetches);
+        Assert.assertEquals(CommandInstrumentation.domGeneration(driver), CommandInstrumentation.UNTRACKED);
+        DomSnapshot.of(driver);
+        DomSnapshot.of(driver);
+        Assert.assertEquals(fetches.get(), 2);
+    }
+
+    @Test
+    public void decoratedDriverReusesSnapshotUntilACommandMayChangeThePage() {
+        AtomicInteger fetches = new AtomicInteger();
+        WebDriver driver = CommandInstrumentation.decorate(stubDriver(fetches));
+        DomSnapshot first = DomSnapshot.of(driver);
+        Assert.assertSame(DomSnapshot.of(driver), first);
+        Assert.assertEquals(fetches.get(), 1);
+        driver.get("https://example.com/other");
+        Assert.assertNotSame(DomSnapshot.of(driver), first);
+        Assert.assertEquals(fetches.get(), 2);
+    }
+
+    private static WebDriver stubDriver(AtomicInteger fetches) {
+        return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(), new Class<?>[]{WebDriver.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getPageSource" -> {
+                        fetches.incrementAndGet();
+                        yield HTML;
+                    }
+                    case "getCurrentUrl" -> "https://example.com/s?k=laptop";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubDriver";
+                    default -> null;
+                });
+    }
+}
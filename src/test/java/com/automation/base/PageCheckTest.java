@@ -0,0 +1,92 @@
+package com.automation.base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+public class PageCheckTest {
+
+    private final AtomicReference<List<?>> sentPredicates = new AtomicReference<>();
+
+    @Test
+    public void textContainsEscapesEveryRegexMetacharacter() {
+        String text = "$19.99 (was [a+b]*?^{2}|x) C:\\deals";
+        String expected = expected(PageCheck.named("price").textContains(By.id("price"), text));
+
+        Assert.assertEquals(expected, "\\$19\\.99 \\(was \\[a\\+b\\]\\*\\?\\^\\{2\\}\\|x\\) C:\\\\deals");
+        // The escaped pattern finds the text literally and nothing that merely matches it as a regex
+        Assert.assertTrue(Pattern.compile(expected).matcher("Now " + text + " only").find());
+        Assert.assertFalse(Pattern.compile(expected).matcher("$19199 (was [a+b]*?^{2}|x) C:\\deals").find());
+    }
+
+    @Test
+    public void textMatchesPassesTheRegexThrough() {
+        Assert.assertEquals(expected(PageCheck.named("count").textMatches(By.id("count"), "\\d+ results?")),
+                "\\d+ results?");
+    }
+
+    @Test
+    public void outcomesArePairedWithPredicatesInOrder() {
+        PageCheck check = PageCheck.named("results")
+                .titleContains("Amazon")
+                .textContains(By.cssSelector(".info"), "1-16 of")
+                .absent(By.id("captcha"));
+        PageCheck.Result result = check.evaluate(stubDriver(List.of(
+                Map.of("passed", true, "actual", "Amazon.com : books"),
+                Map.of("passed", false, "actual", "not found"),
+                Map.of("passed", true, "actual", "0 found"))));
+
+        Assert.assertFalse(result.passed());
+        Assert.assertEquals(result.failures(), List.of(
+                new PageCheck.Outcome("By.cssSelector: .info text contains '1-16 of'", false, "not found")));
+        Assert.assertEquals(result.toString(), "results: 1 of 3 failed - By.cssSelector: .info text contains "
+                + "'1-16 of' ✗ (was not found)");
+    }
+
+    @Test
+    public void resultOfTheWrongShapeIsRejected() {
+        PageCheck check = PageCheck.named("results").titleContains("Amazon").urlContains("/s?");
+        Assert.assertThrows(IllegalStateException.class, () -> check.evaluate(stubDriver(List.of())));
+    }
+
+    @Test
+    public void locatorsThatCannotRunInTheBrowserAreRejected() {
+        By custom = new By() {
+            @Override
+            public List<WebElement> findElements(SearchContext context) {
+                return List.of();
+            }
+        };
+        Assert.assertThrows(IllegalArgumentException.class, () -> PageCheck.named("custom").present(custom));
+    }
+
+    // The expected value of the check's only predicate, as sent to the browser script
+    private String expected(PageCheck check) {
+        check.evaluate(stubDriver(List.of(Map.of("passed", true, "actual", ""))));
+        return (String) ((Map<?, ?>) sentPredicates.get().get(0)).get("expected");
+    }
+
+    private WebDriver stubDriver(List<?> scriptResult) {
+        return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "executeScript" -> {
+                        sentPredicates.set((List<?>) ((Object[]) args[1])[0]);
+                        yield scriptResult;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubDriver";
+                    default -> null;
+                });
+    }
+}
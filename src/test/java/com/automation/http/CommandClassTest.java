@@ -0,0 +1,44 @@
+package com.automation.http;
+
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class CommandClassTest {
+
+    @DataProvider
+    public Object[][] commands() {
+        return new Object[][]{
+                {HttpMethod.POST, "/session", CommandClass.NEW_SESSION},
+                {HttpMethod.POST, "/wd/hub/session", CommandClass.NEW_SESSION},
+                {HttpMethod.DELETE, "/session/4f2a", CommandClass.QUIT},
+                {HttpMethod.DELETE, "/wd/hub/session/4f2a/", CommandClass.QUIT},
+                {HttpMethod.DELETE, "/session/4f2a/window", CommandClass.OTHER},
+                {HttpMethod.DELETE, "/session/4f2a/cookie", CommandClass.OTHER},
+                {HttpMethod.POST, "/session/4f2a/url", CommandClass.NAVIGATION},
+                {HttpMethod.POST, "/session/4f2a/back", CommandClass.NAVIGATION},
+                {HttpMethod.POST, "/session/4f2a/forward", CommandClass.NAVIGATION},
+                {HttpMethod.POST, "/session/4f2a/refresh", CommandClass.NAVIGATION},
+                {HttpMethod.GET, "/session/4f2a/url", CommandClass.OTHER},
+                {HttpMethod.POST, "/session/4f2a/element", CommandClass.FIND},
+                {HttpMethod.POST, "/session/4f2a/elements", CommandClass.FIND},
+                {HttpMethod.POST, "/session/4f2a/element/e-1/element", CommandClass.FIND},
+                {HttpMethod.POST, "/session/4f2a/shadow/s-1/elements", CommandClass.FIND},
+                {HttpMethod.POST, "/session/4f2a/element/e-1/click", CommandClass.OTHER},
+                {HttpMethod.GET, "/session/4f2a/element/e-1/text", CommandClass.OTHER},
+                {HttpMethod.POST, "/session/4f2a/execute/sync", CommandClass.SCRIPT},
+                {HttpMethod.POST, "/session/4f2a/execute/async", CommandClass.SCRIPT},
+                {HttpMethod.GET, "/session/4f2a/screenshot", CommandClass.SCREENSHOT},
+                {HttpMethod.GET, "/session/4f2a/element/e-1/screenshot", CommandClass.SCREENSHOT},
+                {HttpMethod.GET, "/session/4f2a/title", CommandClass.OTHER},
+                {HttpMethod.GET, "/status", CommandClass.OTHER},
+        };
+    }
+
+    @Test(dataProvider = "commands")
+    public void classifiesW3cEndpoints(HttpMethod method, String path, CommandClass expected) {
+        Assert.assertEquals(CommandClass.of(new HttpRequest(method, path)), expected, method + " " + path);
+    }
+}
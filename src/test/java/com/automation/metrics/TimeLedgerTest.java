@@ -0,0 +1,130 @@
+package com.automation.metrics;
+
+import com.automation.metrics.TimeLedger.Category;
+import com.automation.metrics.TimeLedger.Ledger;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TimeLedgerTest {
+
+    // Fake clock in milliseconds; the ledger sees nanoseconds
+    private final AtomicLong millis = new AtomicLong();
+    private Ledger ledger;
+
+    @BeforeMethod
+    public void openLedger() {
+        millis.set(0);
+        ledger = new Ledger("test", () -> millis.get() * 1_000_000);
+    }
+
+    @Test
+    public void nestedSegmentsAreChargedExclusively() {
+        at(10);
+        ledger.push(Category.TEARDOWN);
+        at(15);
+        ledger.push(Category.SCREENSHOT);
+        at(18);
+        ledger.pop(null, false);
+        at(30);
+        ledger.pop(null, false);
+        at(40);
+
+        long[] charged = toMillis(ledger.close());
+        Assert.assertEquals(charged[Category.TEARDOWN.ordinal()], 17);
+        Assert.assertEquals(charged[Category.SCREENSHOT.ordinal()], 3);
+        Assert.assertEquals(charged[Category.TEST_CODE.ordinal()], 20);
+    }
+
+    @Test
+    public void commandInsideASegmentBelongsToTheSegment() {
+        ledger.push(Category.NAVIGATION);
+        at(2);
+        ledger.push(Category.BROWSER);
+        at(5);
+        ledger.pop(Category.BROWSER, true);
+        at(10);
+        ledger.pop(null, false);
+
+        long[] charged = toMillis(ledger.close());
+        Assert.assertEquals(charged[Category.NAVIGATION.ordinal()], 10);
+        Assert.assertEquals(charged[Category.BROWSER.ordinal()], 0);
+    }
+
+    @Test
+    public void emptyLookupInsideASegmentIsChargedAsImplicitWait() {
+        ledger.push(Category.EXPLICIT_WAIT);
+        at(2);
+        ledger.push(Category.BROWSER);
+        at(5);
+        ledger.pop(Category.IMPLICIT_WAIT, false);
+        at(10);
+        ledger.pop(null, false);
+
+        long[] charged = toMillis(ledger.close());
+        Assert.assertEquals(charged[Category.EXPLICIT_WAIT.ordinal()], 7);
+        Assert.assertEquals(charged[Category.IMPLICIT_WAIT.ordinal()], 3);
+    }
+
+    @Test
+    public void commandOutsideAnySegmentIsChargedToItsOwnCategory() {
+        ledger.push(Category.BROWSER);
+        at(4);
+        ledger.pop(Category.NAVIGATION, true);
+        at(6);
+
+        long[] charged = toMillis(ledger.close());
+        Assert.assertEquals(charged[Category.NAVIGATION.ordinal()], 4);
+        Assert.assertEquals(charged[Category.TEST_CODE.ordinal()], 2);
+    }
+
+    @Test
+    public void snapshotChargesOpenSegmentsWithoutClosingThem() {
+        at(1);
+        ledger.push(Category.TEARDOWN);
+        at(5);
+        ledger.push(Category.SCREENSHOT);
+        at(8);
+
+        long[] snapshot = toMillis(ledger.snapshot());
+        Assert.assertEquals(snapshot[Category.TEARDOWN.ordinal()], 4);
+        Assert.assertEquals(snapshot[Category.SCREENSHOT.ordinal()], 3);
+        Assert.assertEquals(snapshot[Category.TEST_CODE.ordinal()], 1);
+
+        at(9);
+        ledger.pop(null, false);
+        at(12);
+        long[] closed = toMillis(ledger.close());
+        Assert.assertEquals(closed[Category.TEARDOWN.ordinal()], 7);
+        Assert.assertEquals(closed[Category.SCREENSHOT.ordinal()], 4);
+    }
+
+    @Test
+    public void deepNestingAndExtraEndsAreHandled() {
+        for (int i = 0; i < 20; i++) {
+            ledger.push(i % 2 == 0 ? Category.TEARDOWN : Category.REPORT_IO);
+            at(i + 1);
+        }
+        for (int i = 0; i < 25; i++) {
+            ledger.pop(null, false);
+        }
+
+        long[] charged = toMillis(ledger.close());
+        Assert.assertEquals(charged[Category.TEARDOWN.ordinal()] + charged[Category.REPORT_IO.ordinal()], 20);
+        Assert.assertEquals(charged[Category.TEARDOWN.ordinal()], 10);
+    }
+
+    private void at(long value) {
+        millis.set(value);
+    }
+
+    private static long[] toMillis(long[] nanos) {
+        long[] result = new long[nanos.length];
+        for (int i = 0; i < nanos.length; i++) {
+            result[i] = nanos[i] / 1_000_000;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,105 @@
+package com.automation.monitor;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+public class MonitorMetricsTest {
+
+    private final Clock clock = Clock.fixed(Instant.ofEpochSecond(1_700_000_000), ZoneOffset.UTC);
+
+    @Test
+    public void exportsOpenMetricsText() {
+        MonitorMetrics metrics = new MonitorMetrics(clock);
+        metrics.recordTest("Search.findsBooks", 1.2, "pass", "run-1");
+        metrics.recordRun(12.5, "run-1");
+        metrics.recordSkippedRuns(2);
+
+        Assert.assertEquals(metrics.export(), """
+                # TYPE synthetic_monitor_runs counter
+                # HELP synthetic_monitor_runs Completed monitor runs.
+                synthetic_monitor_runs_total 1 # {trace_id="run-1"} 1.0 1700000000.000
+                # TYPE synthetic_monitor_skipped_runs counter
+                # HELP synthetic_monitor_skipped_runs Scheduled runs skipped because the previous run was still going.
+                synthetic_monitor_skipped_runs_total 2
+                # TYPE synthetic_monitor_last_run_duration_seconds gauge
+                # UNIT synthetic_monitor_last_run_duration_seconds seconds
+                # HELP synthetic_monitor_last_run_duration_seconds Duration of the last monitor run.
+                synthetic_monitor_last_run_duration_seconds 12.500000
+                # TYPE synthetic_test_duration_seconds histogram
+                # UNIT synthetic_test_duration_seconds seconds
+                # HELP synthetic_test_duration_seconds Test method duration.
+                synthetic_test_duration_seconds_bucket{test="Search.findsBooks",le="0.5"} 0
+                synthetic_test_duration_seconds_bucket{test="Search.findsBooks",le="1.0"} 0
+                synthetic_test_duration_seconds_bucket{test="Search.findsBooks",le="2.5"} 1 # {trace_id="run-1"} 1.200000 1700000000.000
+                synthetic_test_duration_seconds_bucket{test="Search.findsBooks",le="5.0"} 1
+                synthetic_test_duration_seconds_bucket{test="Search.findsBooks",le="10.0"} 1
+                synthetic_test_duration_seconds_bucket{test="Search.findsBooks",le="20.0"} 1
+                synthetic_test_duration_seconds_bucket{test="Search.findsBooks",le="30.0"} 1
+                synthetic_test_duration_seconds_bucket{test="Search.findsBooks",le="60.0"} 1
+                synthetic_test_duration_seconds_bucket{test="Search.findsBooks",le="120.0"} 1
+                synthetic_test_duration_seconds_bucket{test="Search.findsBooks",le="300.0"} 1
+                synthetic_test_duration_seconds_bucket{test="Search.findsBooks",le="+Inf"} 1
+                synthetic_test_duration_seconds_count{test="Search.findsBooks"} 1
+                synthetic_test_duration_seconds_sum{test="Search.findsBooks"} 1.200000
+                # TYPE synthetic_test_results counter
+                # HELP synthetic_test_results Test outcomes by result.
+                synthetic_test_results_total{test="Search.findsBooks",result="pass"} 1 # {trace_id="run-1"} 1.0 1700000000.000
+                # TYPE synthetic_test_up gauge
+                # HELP synthetic_test_up 1 if the last run of the test passed, 0 otherwise.
+                synthetic_test_up{test="Search.findsBooks"} 1.0
+                # TYPE synthetic_test_last_run_timestamp_seconds gauge
+                # UNIT synthetic_test_last_run_timestamp_seconds seconds
+                # HELP synthetic_test_last_run_timestamp_seconds When the test last finished.
+                synthetic_test_last_run_timestamp_seconds{test="Search.findsBooks"} 1700000000.0
+                # TYPE synthetic_step_results counter
+                # HELP synthetic_step_results Step outcomes by result.
+                # EOF
+                """);
+    }
+
+    @Test
+    public void emptyStateStillExportsUnlabelledCounters() {
+        Assert.assertEquals(new MonitorMetrics(clock).export(), """
+                # TYPE synthetic_monitor_runs counter
+                # HELP synthetic_monitor_runs Completed monitor runs.
+                synthetic_monitor_runs_total 0
+                # TYPE synthetic_monitor_skipped_runs counter
+                # HELP synthetic_monitor_skipped_runs Scheduled runs skipped because the previous run was still going.
+                synthetic_monitor_skipped_runs_total 0
+                # TYPE synthetic_test_results counter
+                # HELP synthetic_test_results Test outcomes by result.
+                # TYPE synthetic_step_results counter
+                # HELP synthetic_step_results Step outcomes by result.
+                # EOF
+                """);
+    }
+
+    @Test
+    public void seriesKeepTheirOwnCountsAndLatestExemplar() {
+        MonitorMetrics metrics = new MonitorMetrics(clock);
+        metrics.recordTest("Cart.checkout", 0.2, "fail", "run-1");
+        metrics.recordTest("Cart.checkout", 0.3, "pass", "run-2");
+        metrics.recordTest("Cart.checkout", 0.4, "pass", "run-3");
+        String text = metrics.export();
+
+        Assert.assertTrue(text.contains("synthetic_test_results_total{test=\"Cart.checkout\",result=\"fail\"} 1 # {trace_id=\"run-1\"}"), text);
+        Assert.assertTrue(text.contains("synthetic_test_results_total{test=\"Cart.checkout\",result=\"pass\"} 2 # {trace_id=\"run-3\"}"), text);
+        Assert.assertTrue(text.contains("synthetic_test_duration_seconds_bucket{test=\"Cart.checkout\",le=\"0.5\"} 3 # {trace_id=\"run-3\"} 0.400000"), text);
+        Assert.assertTrue(text.contains("synthetic_test_duration_seconds_sum{test=\"Cart.checkout\"} 0.900000\n"), text);
+        Assert.assertTrue(text.contains("synthetic_test_up{test=\"Cart.checkout\"} 1.0\n"), text);
+    }
+
+    @Test
+    public void escapesLabelValues() {
+        MonitorMetrics metrics = new MonitorMetrics(clock);
+        metrics.recordStep("Search", "type \"books\" in C:\\search\nand submit", 0.1, "pass", "run-1");
+
+        Assert.assertTrue(metrics.export().contains(
+                "synthetic_step_results_total{test=\"Search\",step=\"type \\\"books\\\" in C:\\\\search\\nand submit\","
+                        + "result=\"pass\"} 1"), metrics.export());
+    }
+}
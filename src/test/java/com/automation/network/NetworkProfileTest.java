@@ -0,0 +1,44 @@
+package com.automation.network;
+
+import com.automation.network.NetworkProfile.ResourceType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class NetworkProfileTest {
+
+    @Test
+    public void scriptPatternsDoNotBlockJsonOrJsp() {
+        List<String> patterns = ResourceType.SCRIPT.getUrlPatterns();
+        Assert.assertEquals(patterns, List.of("*.js", "*.js?*"));
+
+        Assert.assertTrue(blocked(patterns, "https://cdn.example.com/app.js"));
+        Assert.assertTrue(blocked(patterns, "https://cdn.example.com/app.js?v=3"));
+        Assert.assertFalse(blocked(patterns, "https://www.example.com/api/items.json"));
+        Assert.assertFalse(blocked(patterns, "https://www.example.com/index.jsp?q=1"));
+    }
+
+    @Test
+    public void imagePatternsAreAnchoredOnTheExtension() {
+        List<String> patterns = ResourceType.IMAGE.getUrlPatterns();
+        Assert.assertTrue(blocked(patterns, "https://www.example.com/favicon.ico"));
+        Assert.assertTrue(blocked(patterns, "https://img.example.com/logo.svg?w=40"));
+        Assert.assertFalse(blocked(patterns, "https://www.example.com/icons.icons.json"));
+        Assert.assertFalse(blocked(patterns, "https://www.example.com/svgz/sprite.svgz"));
+    }
+
+    @Test
+    public void explicitPatternsComeBeforeResourceTypes() {
+        NetworkProfile profile = new NetworkProfile("shop", List.of("*beacon*"), Set.of(ResourceType.STYLESHEET));
+        Assert.assertEquals(profile.getAllBlockedPatterns(), List.of("*beacon*", "*.css", "*.css?*"));
+    }
+
+    // Network.setBlockedURLs patterns match the whole URL with '*' as the only wildcard
+    private static boolean blocked(List<String> patterns, String url) {
+        return patterns.stream().anyMatch(pattern -> Pattern.matches(
+                ("\\Q" + pattern + "\\E").replace("*", "\\E.*\\Q"), url));
+    }
+}
@@ -0,0 +1,50 @@
+package com.automation.retry;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static com.automation.retry.TestHistory.FAIL;
+import static com.automation.retry.TestHistory.FLAKY;
+import static com.automation.retry.TestHistory.PASS;
+
+public class TestHistoryTest {
+
+    @Test
+    public void stableMethodsScoreZero() {
+        Assert.assertEquals(TestHistory.score(List.of(PASS, PASS, PASS, PASS)), 0.0);
+        Assert.assertEquals(TestHistory.score(List.of(FAIL, FAIL, FAIL)), 0.0);
+    }
+
+    @Test
+    public void fewerThanTwoRunsScoreZero() {
+        Assert.assertEquals(TestHistory.score(List.of()), 0.0);
+        Assert.assertEquals(TestHistory.score(List.of(FLAKY)), 0.0);
+    }
+
+    @Test
+    public void passesOnRetryCountAsFlaky() {
+        Assert.assertEquals(TestHistory.score(List.of(PASS, FLAKY, PASS, FLAKY)), 0.5);
+    }
+
+    @Test
+    public void flipsBetweenPassAndFailCount() {
+        // Three flips over four runs
+        Assert.assertEquals(TestHistory.score(List.of(PASS, FAIL, PASS, FAIL)), 1.0);
+        // One flip: a method that broke and stayed broken is not flaky
+        Assert.assertEquals(TestHistory.score(List.of(PASS, PASS, FAIL, FAIL, FAIL)), 0.25);
+    }
+
+    @Test
+    public void flakyPassIsNotAFlipFromPass() {
+        // Only the change between failing and not failing counts as a flip
+        Assert.assertEquals(TestHistory.score(List.of(PASS, FLAKY, PASS)), 1.0 / 3);
+    }
+
+    @Test
+    public void scoreIsTheLargerOfBothSignals() {
+        // 2 of 5 runs flaky (0.4), 2 flips over 4 transitions (0.5)
+        Assert.assertEquals(TestHistory.score(List.of(FLAKY, FLAKY, FAIL, PASS, PASS)), 0.5);
+    }
+}
@@ -0,0 +1,156 @@
+package com.automation.session;
+
+import com.automation.utils.ExtentManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SessionCacheTest {
+
+    private static final String ORIGIN = "https://shop.example.com";
+    private static final File CACHE_DIR = new File(System.getProperty("session.cache.dir", "target/session-cache/"));
+
+    private final List<String> keys = new ArrayList<>();
+    private final AtomicInteger logins = new AtomicInteger();
+
+    // SessionCache logs to the report; without a report nothing is written to reports/
+    @BeforeClass
+    public void disableReport() {
+        ExtentManager.setEnabled(false);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void enableReport() {
+        ExtentManager.setEnabled(true);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteSnapshots() {
+        keys.forEach(SessionCache::delete);
+        keys.clear();
+        logins.set(0);
+    }
+
+    @Test
+    public void keyDependsOnUsernameAndPassword() {
+        String key = SessionCache.keyFor("shop", "user@example.com", "secret");
+        Assert.assertEquals(SessionCache.keyFor("shop", "user@example.com", "secret"), key);
+        Assert.assertNotEquals(SessionCache.keyFor("shop", "user@example.com", "wrong"), key);
+        Assert.assertNotEquals(SessionCache.keyFor("shop", "other@example.com", "secret"), key);
+        Assert.assertNotEquals(SessionCache.keyFor("other", "user@example.com", "secret"), key);
+        Assert.assertFalse(key.contains("user@example.com"), key);
+    }
+
+    @Test
+    public void secondSessionIsRestoredWithoutLoggingIn() {
+        String key = key("restore", "secret");
+        Set<Cookie> first = new LinkedHashSet<>();
+        establish(first, key);
+        Assert.assertEquals(logins.get(), 1);
+        Assert.assertTrue(new File(CACHE_DIR, key + ".json").exists());
+
+        Set<Cookie> second = new LinkedHashSet<>();
+        establish(second, key);
+        Assert.assertEquals(logins.get(), 1);
+        Assert.assertEquals(second.iterator().next().getValue(), "token-1");
+    }
+
+    @Test
+    public void differentPasswordLogsInAgain() {
+        establish(new LinkedHashSet<>(), key("password", "secret"));
+        establish(new LinkedHashSet<>(), key("password", "changed"));
+        Assert.assertEquals(logins.get(), 2);
+    }
+
+    @Test
+    public void expiredSnapshotIsReplacedByANewLogin() throws Exception {
+        String key = key("expiry", "secret");
+        establish(new LinkedHashSet<>(), key);
+        File file = new File(CACHE_DIR, key + ".json");
+        ObjectMapper mapper = new ObjectMapper();
+        SessionSnapshot snapshot = mapper.readValue(file, SessionSnapshot.class);
+        snapshot.setCreatedAt(0);
+        mapper.writeValue(file, snapshot);
+
+        Set<Cookie> cookies = new LinkedHashSet<>();
+        establish(cookies, key);
+        Assert.assertEquals(logins.get(), 2);
+        Assert.assertEquals(cookies.iterator().next().getValue(), "token-2");
+        Assert.assertTrue(mapper.readValue(file, SessionSnapshot.class).getCreatedAt() > 0);
+    }
+
+    @Test
+    public void expiredTrackingCookieDoesNotForceALogin() throws Exception {
+        String key = key("tracking", "secret");
+        establish(new LinkedHashSet<>(), key);
+        File file = new File(CACHE_DIR, key + ".json");
+        ObjectMapper mapper = new ObjectMapper();
+        SessionSnapshot snapshot = mapper.readValue(file, SessionSnapshot.class);
+        SessionSnapshot.StoredCookie tracker = new SessionSnapshot.StoredCookie();
+        tracker.setName("tracker");
+        tracker.setValue("t");
+        tracker.setDomain("shop.example.com");
+        tracker.setExpiry(System.currentTimeMillis() / 1000 - 60);
+        snapshot.getCookies().add(tracker);
+        mapper.writeValue(file, snapshot);
+
+        Set<Cookie> cookies = new LinkedHashSet<>();
+        establish(cookies, key);
+        Assert.assertEquals(logins.get(), 1);
+        Assert.assertEquals(cookies.stream().map(Cookie::getName).toList(), List.of("session-id"));
+    }
+
+    private String key(String test, String password) {
+        String key = SessionCache.keyFor("unit-" + test, "user@example.com", password);
+        keys.add(key);
+        return key;
+    }
+
+    private void establish(Set<Cookie> cookies, String key) {
+        WebDriver driver = stubDriver(cookies);
+        SessionCache.establish(driver, key, ORIGIN, () -> driver.get(ORIGIN),
+                () -> cookies.stream().anyMatch(cookie -> cookie.getName().equals("session-id")),
+                () -> cookies.add(new Cookie("session-id", "token-" + logins.incrementAndGet(), "shop.example.com",
+                        "/", null)));
+    }
+
+    // Browser that keeps cookies in the given set and has empty web storage
+    private static WebDriver stubDriver(Set<Cookie> cookies) {
+        WebDriver.Options options = (WebDriver.Options) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+                new Class<?>[]{WebDriver.Options.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getCookies" -> new LinkedHashSet<>(cookies);
+                    case "addCookie" -> cookies.add((Cookie) args[0]);
+                    case "deleteAllCookies" -> {
+                        cookies.clear();
+                        yield null;
+                    }
+                    default -> null;
+                });
+        return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "manage" -> options;
+                    case "executeScript" -> String.valueOf(args[0]).contains("return [local, session]")
+                            ? List.of(Map.of(), Map.of())
+                            : null;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubDriver";
+                    default -> null;
+                });
+    }
+}
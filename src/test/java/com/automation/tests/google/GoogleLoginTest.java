@@ -14,8 +14,7 @@ public class GoogleLoginTest extends BaseTest {
         // FIXED: Use getDriver() instead of driver for thread safety
         GooglePage googlePage = new GooglePage(getDriver());
         
-        logInfo("Step 1: Navigate to Google homepage");
-        googlePage.navigateToGoogle();
+        step("Navigate to Google homepage", () -> googlePage.navigateToGoogle());
         
         Assert.fail("This is an error message");
         
@@ -38,8 +37,7 @@ public class GoogleLoginTest extends BaseTest {
         // FIXED: Use getDriver() instead of driver for thread safety
         GooglePage googlePage = new GooglePage(getDriver());
         
-        logInfo("Step 1: Navigate to Google homepage");
-        googlePage.navigateToGoogle();
+        step("Navigate to Google homepage", () -> googlePage.navigateToGoogle());
         
 //        logInfo("Step 2: Verify homepage is loaded");
 //        Assert.assertTrue(googlePage.isLoaded(), "Google homepage should load successfully");
@@ -73,8 +71,7 @@ public class GoogleLoginTest extends BaseTest {
         // FIXED: Use getDriver() instead of driver for thread safety
         GooglePage googlePage = new GooglePage(getDriver());
         
-        logInfo("Step 1: Navigate to Google homepage");
-        googlePage.navigateToGoogle();
+        step("Navigate to Google homepage", () -> googlePage.navigateToGoogle());
         
 //        logInfo("Step 2: Verify homepage is loaded");
 //        Assert.assertTrue(googlePage.isLoaded(), "Google homepage should load successfully");